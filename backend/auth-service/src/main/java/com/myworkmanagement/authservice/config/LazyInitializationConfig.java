@@ -0,0 +1,22 @@
+package com.myworkmanagement.authservice.config;
+
+import com.myworkmanagement.authservice.security.JwtKeyStore;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps a few beans eager under {@code spring.main.lazy-initialization} (the {@code faststart} profile):
+ * the signing keys, so a bad key path fails the deployment instead of the first login, and the
+ * startup reporter that nothing injects. The virtual thread pinning monitor is kept eager by its auto-configuration.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                JwtKeyStore.class,
+                StartupTimeReporter.class);
+    }
+}
@@ -1,8 +1,11 @@
 package com.myworkmanagement.authservice.config;
 
+import com.myworkmanagement.authservice.security.BoundedPasswordEncoder;
 import com.myworkmanagement.authservice.security.JwtAuthenticationFilter;
 import com.myworkmanagement.authservice.service.impl.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -30,6 +33,16 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final CustomUserDetailsService customUserDetailsService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.hashing.threads:2}")
+    private int hashingThreads;
+
+    @Value("${auth.hashing.queue-capacity:50}")
+    private int hashingQueueCapacity;
+
+    @Value("${auth.hashing.timeout-ms:2000}")
+    private long hashingTimeoutMs;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -37,7 +50,9 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/api/auth/**", "/v3/api-docs/**", "/swagger-ui/**").permitAll()
+                .requestMatchers("/api/auth/**", "/.well-known/jwks.json", "/v3/api-docs/**", "/swagger-ui/**").permitAll()
+                .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
@@ -64,7 +79,8 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), hashingThreads, hashingQueueCapacity,
+                hashingTimeoutMs, meterRegistry);
     }
 
     @Bean
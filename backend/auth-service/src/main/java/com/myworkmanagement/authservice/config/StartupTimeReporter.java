@@ -0,0 +1,28 @@
+package com.myworkmanagement.authservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+
+/**
+ * Logs the time from JVM start to ready and whether AOT, a CDS archive and lazy initialization were used.
+ */
+@Slf4j
+@Component
+public class StartupTimeReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        boolean cds = runtime.getInputArguments().stream().anyMatch(a -> a.startsWith("-XX:SharedArchiveFile="));
+        boolean lazy = event.getApplicationContext().getEnvironment()
+                .getProperty("spring.main.lazy-initialization", Boolean.class, false);
+        log.info("Ready in {} ms since JVM start (context {} ms; AOT: {}, CDS archive: {}, lazy initialization: {})",
+                runtime.getUptime(), event.getTimeTaken().toMillis(), AotDetector.useGeneratedArtifacts(), cds, lazy);
+    }
+}
@@ -1,18 +1,30 @@
 package com.myworkmanagement.authservice.controller;
 
 import com.myworkmanagement.authservice.dto.request.LoginRequest;
+import com.myworkmanagement.authservice.dto.request.RefreshTokenRequest;
 import com.myworkmanagement.authservice.dto.request.UserRegistrationRequest;
 import com.myworkmanagement.authservice.dto.response.AuthResponse;
+import com.myworkmanagement.authservice.dto.response.RevokedTokenResponse;
 import com.myworkmanagement.authservice.dto.response.UserResponse;
+import com.myworkmanagement.authservice.exception.ServiceBusyException;
+import com.myworkmanagement.authservice.exception.TooManyRequestsException;
+import com.myworkmanagement.authservice.security.LoginRateLimiter;
+import com.myworkmanagement.authservice.security.TokenRevocationRegistry;
 import com.myworkmanagement.authservice.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/auth")
@@ -21,14 +33,20 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     @PostMapping("/login")
     @Operation(summary = "Login user", description = "Authenticates a user and returns a JWT token")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
         try {
             log.info("Received login request for user: {}", request.getEmail());
+            loginRateLimiter.checkLogin(request.getEmail(), httpRequest.getRemoteAddr());
             AuthResponse response = authService.login(request);
             return ResponseEntity.ok(response);
+        } catch (TooManyRequestsException | ServiceBusyException e) {
+            log.warn("Login throttled for user: {} - {}", request.getEmail(), e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Login failed for user: {} - Error: {}", request.getEmail(), e.getMessage(), e);
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -37,14 +55,44 @@ public class AuthController {
 
     @PostMapping("/register")
     @Operation(summary = "Register new user", description = "Creates a new user account")
-    public ResponseEntity<?> register(@Valid @RequestBody UserRegistrationRequest request) {
+    public ResponseEntity<?> register(@Valid @RequestBody UserRegistrationRequest request, HttpServletRequest httpRequest) {
         try {
             log.info("Received registration request for user: {}", request.getEmail());
+            loginRateLimiter.checkIp(httpRequest.getRemoteAddr());
             UserResponse response = authService.register(request);
             return ResponseEntity.ok(response);
+        } catch (TooManyRequestsException | ServiceBusyException e) {
+            log.warn("Registration throttled for user: {} - {}", request.getEmail(), e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Registration failed for user: {} - Error: {}", request.getEmail(), e.getMessage(), e);
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
-} 
\ No newline at end of file
+
+    @PostMapping("/refresh")
+    @Operation(summary = "Refresh tokens", description = "Exchanges a refresh token for a new access token and refresh token")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Logout user", description = "Revokes the refresh token and the current access token")
+    public ResponseEntity<Void> logout(@RequestBody(required = false) RefreshTokenRequest request,
+                                       @RequestHeader(value = "Authorization", required = false) String authorization) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        authService.logout(request != null ? request.getRefreshToken() : null, accessToken);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/revocations")
+    @Operation(summary = "List revoked tokens", description = "Returns the access tokens revoked after the given instant that have not expired yet")
+    public ResponseEntity<List<RevokedTokenResponse>> getRevocations(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since) {
+        List<RevokedTokenResponse> revocations = tokenRevocationRegistry.findRevokedSince(since != null ? since : Instant.EPOCH)
+                .stream()
+                .map(token -> new RevokedTokenResponse(token.getJti(), token.getExpiresAt(), token.getRevokedAt()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(revocations);
+    }
+}
@@ -0,0 +1,44 @@
+package com.myworkmanagement.authservice.controller;
+
+import com.myworkmanagement.authservice.security.JwtKeyStore;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "JWKS", description = "Public keys used to verify issued tokens")
+public class JwksController {
+
+    private final JwtKeyStore jwtKeyStore;
+
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(summary = "Get JWKS", description = "Returns the public keys that verify tokens issued by this service")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        for (Map.Entry<String, RSAPublicKey> entry : jwtKeyStore.getVerificationKeys().entrySet()) {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "RSA");
+            jwk.put("use", "sig");
+            jwk.put("alg", "RS256");
+            jwk.put("kid", entry.getKey());
+            jwk.put("n", JwtKeyStore.toBase64Url(entry.getValue().getModulus()));
+            jwk.put("e", JwtKeyStore.toBase64Url(entry.getValue().getPublicExponent()));
+            keys.add(jwk);
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(Map.of("keys", keys));
+    }
+}
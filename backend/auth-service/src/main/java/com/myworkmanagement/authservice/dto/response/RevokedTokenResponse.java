@@ -0,0 +1,14 @@
+package com.myworkmanagement.authservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class RevokedTokenResponse {
+    private String jti;
+    private Instant expiresAt;
+    private Instant revokedAt;
+}
@@ -1,5 +1,6 @@
 package com.myworkmanagement.authservice.entity;
 
+import com.myworkmanagement.authservice.security.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,6 +19,7 @@ import java.util.List;
 @AllArgsConstructor
 @Entity
 @Table(name = "users")
+@EntityListeners(UserCacheInvalidationListener.class)
 public class User implements UserDetails {
 
     @Id
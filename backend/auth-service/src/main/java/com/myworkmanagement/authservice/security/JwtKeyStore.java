@@ -0,0 +1,136 @@
+package com.myworkmanagement.authservice.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RSA keys used to sign and verify JWTs.
+ * The signing key is read from a PKCS#8 PEM file; its public key is published in the JWKS together with the
+ * public keys of previous signing keys, so tokens issued before a rotation stay valid until they expire.
+ * When no private key is configured a key pair is generated at startup, which is only suitable for local runs:
+ * tokens do not survive a restart and every instance signs with its own key. Outside the {@code dev} profile
+ * a missing key fails the startup instead.
+ */
+@Slf4j
+@Component
+public class JwtKeyStore {
+
+    private static final String EPHEMERAL_KEY_PROFILE = "dev";
+
+    private final PrivateKey signingKey;
+    private final String signingKeyId;
+    // kid -> public key, signing key first
+    private final Map<String, RSAPublicKey> verificationKeys;
+
+    public JwtKeyStore(@Value("${jwt.rsa.private-key-path:}") String privateKeyPath,
+                       @Value("${jwt.rsa.previous-public-key-paths:}") List<String> previousPublicKeyPaths,
+                       Environment environment) {
+        try {
+            RSAPublicKey signingPublicKey;
+            if (StringUtils.hasText(privateKeyPath)) {
+                RSAPrivateCrtKey privateKey = (RSAPrivateCrtKey) KeyFactory.getInstance("RSA")
+                        .generatePrivate(new PKCS8EncodedKeySpec(readPem(privateKeyPath)));
+                signingPublicKey = (RSAPublicKey) KeyFactory.getInstance("RSA")
+                        .generatePublic(new RSAPublicKeySpec(privateKey.getModulus(), privateKey.getPublicExponent()));
+                this.signingKey = privateKey;
+            } else {
+                if (!environment.acceptsProfiles(Profiles.of(EPHEMERAL_KEY_PROFILE))) {
+                    throw new IllegalStateException("jwt.rsa.private-key-path is not set; an ephemeral signing key "
+                            + "is only generated with the " + EPHEMERAL_KEY_PROFILE + " profile");
+                }
+                log.warn("jwt.rsa.private-key-path is not set, generating an ephemeral signing key");
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+                KeyPair keyPair = generator.generateKeyPair();
+                signingPublicKey = (RSAPublicKey) keyPair.getPublic();
+                this.signingKey = keyPair.getPrivate();
+            }
+
+            Map<String, RSAPublicKey> keys = new LinkedHashMap<>();
+            this.signingKeyId = keyId(signingPublicKey);
+            keys.put(signingKeyId, signingPublicKey);
+            for (String path : previousPublicKeyPaths) {
+                if (StringUtils.hasText(path)) {
+                    RSAPublicKey publicKey = (RSAPublicKey) KeyFactory.getInstance("RSA")
+                            .generatePublic(new X509EncodedKeySpec(readPem(path.trim())));
+                    keys.putIfAbsent(keyId(publicKey), publicKey);
+                }
+            }
+            this.verificationKeys = Collections.unmodifiableMap(keys);
+            log.info("JWT signing key {} loaded, {} verification keys published", signingKeyId, keys.size());
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot load JWT RSA keys", e);
+        }
+    }
+
+    public PrivateKey getSigningKey() {
+        return signingKey;
+    }
+
+    public String getSigningKeyId() {
+        return signingKeyId;
+    }
+
+    public PublicKey getVerificationKey(String keyId) {
+        return keyId != null ? verificationKeys.get(keyId) : null;
+    }
+
+    public Map<String, RSAPublicKey> getVerificationKeys() {
+        return verificationKeys;
+    }
+
+    /**
+     * Key ID derived from the key itself (base64url SHA-256 of the encoded public key, truncated),
+     * so the same key always gets the same kid on every instance.
+     */
+    private static String keyId(RSAPublicKey publicKey) throws GeneralSecurityException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(publicKey.getEncoded());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 12));
+    }
+
+    private static byte[] readPem(String path) throws IOException {
+        String pem = Files.readString(Path.of(path), StandardCharsets.US_ASCII)
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(pem);
+    }
+
+    /**
+     * Unsigned big-endian base64url encoding used by JWK for RSA parameters.
+     */
+    public static String toBase64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,138 @@
+package com.myworkmanagement.authservice.security;
+
+import com.myworkmanagement.authservice.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Token-bucket throttling of login and registration attempts per email and per client IP.
+ * Buckets live in memory, split across lock stripes so unrelated keys do not contend.
+ * Each stripe keeps at most a fixed number of buckets and drops the least recently used one,
+ * which bounds memory when attempts come from many addresses.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Stripes emailBuckets;
+    private final Stripes ipBuckets;
+    private final Counter emailLimited;
+    private final Counter ipLimited;
+
+    public LoginRateLimiter(@Value("${auth.rate-limit.per-email.capacity:5}") int emailCapacity,
+                            @Value("${auth.rate-limit.per-email.refill-per-minute:5}") double emailRefillPerMinute,
+                            @Value("${auth.rate-limit.per-ip.capacity:20}") int ipCapacity,
+                            @Value("${auth.rate-limit.per-ip.refill-per-minute:20}") double ipRefillPerMinute,
+                            @Value("${auth.rate-limit.stripes:64}") int stripes,
+                            @Value("${auth.rate-limit.max-keys-per-stripe:1024}") int maxKeysPerStripe,
+                            MeterRegistry meterRegistry) {
+        this.emailBuckets = new Stripes(stripes, maxKeysPerStripe, emailCapacity, emailRefillPerMinute);
+        this.ipBuckets = new Stripes(stripes, maxKeysPerStripe, ipCapacity, ipRefillPerMinute);
+        this.emailLimited = Counter.builder("auth.rate.limited")
+                .description("Attempts refused by the login rate limiter")
+                .tag("scope", "email")
+                .register(meterRegistry);
+        this.ipLimited = Counter.builder("auth.rate.limited")
+                .description("Attempts refused by the login rate limiter")
+                .tag("scope", "ip")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes one token for the email and one for the client IP, or throws {@link TooManyRequestsException}.
+     */
+    public void checkLogin(String email, String clientIp) {
+        checkIp(clientIp);
+        if (email != null) {
+            long waitMillis = emailBuckets.tryAcquire(email.toLowerCase(Locale.ROOT));
+            if (waitMillis > 0) {
+                emailLimited.increment();
+                throw new TooManyRequestsException("Too many login attempts for this account, please retry later",
+                        toSeconds(waitMillis));
+            }
+        }
+    }
+
+    /**
+     * Takes one token for the client IP, or throws {@link TooManyRequestsException}.
+     */
+    public void checkIp(String clientIp) {
+        if (clientIp == null) {
+            return;
+        }
+        long waitMillis = ipBuckets.tryAcquire(clientIp);
+        if (waitMillis > 0) {
+            ipLimited.increment();
+            throw new TooManyRequestsException("Too many requests, please retry later", toSeconds(waitMillis));
+        }
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private static final class Stripes {
+        private final Stripe[] stripes;
+        private final int capacity;
+        private final double tokensPerMilli;
+
+        private Stripes(int stripeCount, int maxKeysPerStripe, int capacity, double refillPerMinute) {
+            this.stripes = new Stripe[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new Stripe(maxKeysPerStripe);
+            }
+            this.capacity = capacity;
+            this.tokensPerMilli = refillPerMinute / 60_000d;
+        }
+
+        /**
+         * Returns 0 when a token was taken, otherwise the milliseconds until one is available.
+         */
+        private long tryAcquire(String key) {
+            Stripe stripe = stripes[Math.floorMod(key.hashCode(), stripes.length)];
+            long now = System.currentTimeMillis();
+            synchronized (stripe) {
+                Bucket bucket = stripe.buckets.get(key);
+                if (bucket == null) {
+                    bucket = new Bucket(capacity, now);
+                    stripe.buckets.put(key, bucket);
+                }
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.refilledAt) * tokensPerMilli);
+                bucket.refilledAt = now;
+                if (bucket.tokens >= 1) {
+                    bucket.tokens -= 1;
+                    return 0;
+                }
+                return tokensPerMilli > 0 ? (long) Math.ceil((1 - bucket.tokens) / tokensPerMilli) : Long.MAX_VALUE / 1000;
+            }
+        }
+    }
+
+    private static final class Stripe {
+        private final Map<String, Bucket> buckets;
+
+        private Stripe(int maxKeys) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.myworkmanagement.authservice.security;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.myworkmanagement.authservice.entity.RevokedToken;
+import com.myworkmanagement.authservice.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked access tokens, keyed by {@code jti}. The revocation list is stored in the database and mirrored in memory
+ * as a Bloom filter in front of an exact set, so the per-request check never touches the database:
+ * almost every token is rejected by the Bloom filter as "not revoked" and only the rest is looked up in the set.
+ * Revocations made by other instances are picked up by a periodic sync, and entries are dropped once the
+ * token they revoke has expired.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    // Re-read a little history on every sync so revocations committed out of order are not missed
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+
+    // jti -> expiration of the revoked token
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile BloomFilter<CharSequence> bloomFilter;
+    // Only advanced from committed rows read back from the database, never by a local revoke()
+    private volatile Instant lastSyncedRevokedAt = Instant.EPOCH;
+
+    public TokenRevocationRegistry(RevokedTokenRepository revokedTokenRepository,
+                                   @Value("${jwt.revocation.expected-entries:10000}") int expectedRevocations,
+                                   @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = newBloomFilter(expectedRevocations);
+    }
+
+    @PostConstruct
+    public void load() {
+        List<RevokedToken> active = revokedTokenRepository.findByExpiresAtAfter(Instant.now());
+        synchronized (writeLock) {
+            for (RevokedToken token : active) {
+                addToMemory(token);
+                advanceSyncedRevokedAt(token);
+            }
+        }
+        log.info("Loaded {} revoked tokens", active.size());
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        return revoked.containsKey(jti);
+    }
+
+    @Transactional
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        RevokedToken token = RevokedToken.builder()
+                .jti(jti)
+                .expiresAt(expiresAt)
+                .revokedAt(Instant.now())
+                .build();
+        revokedTokenRepository.save(token);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A revocation that is rolled back must not be enforced by this instance either
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addCommitted(token);
+                }
+            });
+        } else {
+            addCommitted(token);
+        }
+    }
+
+    /**
+     * Revocations recorded after the given instant whose tokens have not expired yet.
+     */
+    public List<RevokedToken> findRevokedSince(Instant since) {
+        return revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfterOrderByRevokedAtAsc(since, Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:10000}")
+    public void sync() {
+        Instant now = Instant.now();
+        Instant since = lastSyncedRevokedAt.equals(Instant.EPOCH) ? Instant.EPOCH : lastSyncedRevokedAt.minus(SYNC_OVERLAP);
+        List<RevokedToken> recent = revokedTokenRepository
+                .findByRevokedAtAfterAndExpiresAtAfterOrderByRevokedAtAsc(since, now);
+        synchronized (writeLock) {
+            for (RevokedToken token : recent) {
+                addToMemory(token);
+                advanceSyncedRevokedAt(token);
+            }
+            if (revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now))) {
+                // Bloom filters cannot forget, so rebuild without the expired entries
+                BloomFilter<CharSequence> rebuilt = newBloomFilter(Math.max(expectedRevocations, revoked.size() * 2));
+                revoked.keySet().forEach(rebuilt::put);
+                bloomFilter = rebuilt;
+            }
+        }
+    }
+
+    @Scheduled(cron = "${jwt.revocation.cleanup-cron:0 0 3 * * *}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(Instant.now());
+        log.info("Deleted {} expired revoked tokens", deleted);
+    }
+
+    private void addCommitted(RevokedToken token) {
+        synchronized (writeLock) {
+            addToMemory(token);
+        }
+    }
+
+    // Callers hold writeLock
+    private void addToMemory(RevokedToken token) {
+        revoked.put(token.getJti(), token.getExpiresAt());
+        bloomFilter.put(token.getJti());
+    }
+
+    // Callers hold writeLock
+    private void advanceSyncedRevokedAt(RevokedToken token) {
+        if (token.getRevokedAt().isAfter(lastSyncedRevokedAt)) {
+            lastSyncedRevokedAt = token.getRevokedAt();
+        }
+    }
+
+    private BloomFilter<CharSequence> newBloomFilter(int expectedInsertions) {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveRate);
+    }
+}
@@ -0,0 +1,35 @@
+package com.myworkmanagement.authservice.security;
+
+import com.myworkmanagement.authservice.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts a user's cached details whenever the user row changes (role, password, ...).
+ * The entry is evicted again after commit so that a concurrent request cannot keep the pre-commit values cached.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+
+    private final UserDetailsCache userDetailsCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        String email = user.getEmail();
+        userDetailsCache.evict(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userDetailsCache.evict(email);
+                }
+            });
+        }
+    }
+}
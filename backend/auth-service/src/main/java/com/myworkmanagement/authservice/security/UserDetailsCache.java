@@ -0,0 +1,53 @@
+package com.myworkmanagement.authservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Short-lived cache of the user details loaded by email, so requests authenticated by a JWT do not query the users
+ * table. Only the username and authorities are kept: the password hash is never cached, so a login always checks
+ * the current credential even when the password was changed on another instance.
+ * Entries expire after {@code auth.user-cache.ttl-seconds} and are evicted as soon as a user is updated or deleted.
+ */
+@Slf4j
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, List<GrantedAuthority>> entries;
+
+    public UserDetailsCache(@Value("${auth.user-cache.ttl-seconds:300}") long ttlSeconds,
+                            @Value("${auth.user-cache.max-entries:10000}") int maxEntries) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(Math.max(ttlSeconds, 0)))
+                .build();
+    }
+
+    /**
+     * Returns the cached details without a password, or {@code null}. They must not be used to check a credential.
+     */
+    public UserDetails get(String email) {
+        List<GrantedAuthority> authorities = entries.getIfPresent(email);
+        return authorities != null ? new User(email, "", authorities) : null;
+    }
+
+    public void put(String email, Collection<? extends GrantedAuthority> authorities) {
+        entries.put(email, List.copyOf(authorities));
+    }
+
+    public void evict(String email) {
+        if (email != null && entries.asMap().remove(email) != null) {
+            log.debug("Evicted cached user details for {}", email);
+        }
+    }
+}
@@ -8,4 +8,6 @@ import com.myworkmanagement.authservice.dto.response.UserResponse;
 public interface AuthService {
     AuthResponse login(LoginRequest request);
     UserResponse register(UserRegistrationRequest request);
+    AuthResponse refresh(String refreshToken);
+    void logout(String refreshToken, String accessToken);
 } 
\ No newline at end of file
@@ -4,14 +4,22 @@ import com.myworkmanagement.authservice.dto.request.LoginRequest;
 import com.myworkmanagement.authservice.dto.request.UserRegistrationRequest;
 import com.myworkmanagement.authservice.dto.response.AuthResponse;
 import com.myworkmanagement.authservice.dto.response.UserResponse;
+import com.myworkmanagement.authservice.entity.RefreshToken;
 import com.myworkmanagement.authservice.entity.Role;
 import com.myworkmanagement.authservice.entity.User;
 import com.myworkmanagement.authservice.exception.EmailAlreadyExistsException;
+import com.myworkmanagement.authservice.exception.InvalidRefreshTokenException;
+import com.myworkmanagement.authservice.exception.ServiceBusyException;
+import com.myworkmanagement.authservice.repository.RefreshTokenRepository;
 import com.myworkmanagement.authservice.repository.UserRepository;
 import com.myworkmanagement.authservice.security.JwtTokenProvider;
+import com.myworkmanagement.authservice.security.TokenRevocationRegistry;
 import com.myworkmanagement.authservice.service.AuthService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -22,6 +30,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.List;
 
 @Slf4j
@@ -33,6 +48,14 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final CustomUserDetailsService userDetailsService;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpiration;
 
     @Override
     public AuthResponse login(LoginRequest request) {
@@ -70,12 +93,16 @@ public class AuthServiceImpl implements AuthService {
                 .role(user.getRole().name())
                 .build();
 
-            // Return AuthResponse with token and user details
-            return new AuthResponse(token, userResponse);
+            String refreshToken = issueRefreshToken(user.getEmail());
+
+            // Return AuthResponse with tokens and user details
+            return new AuthResponse(token, refreshToken, userResponse);
             
         } catch (BadCredentialsException e) {
             log.error("Invalid credentials for user: {}", request.getEmail());
             throw new RuntimeException("Invalid email or password");
+        } catch (ServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error during login process: {}", e.getMessage(), e);
             throw new RuntimeException("An error occurred during login");
@@ -107,4 +134,97 @@ public class AuthServiceImpl implements AuthService {
             .role(user.getRole().name())
             .build();
     }
-} 
\ No newline at end of file
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token.
+     * Refresh tokens are single use: presenting one that was already rotated revokes every refresh token of the user,
+     * since it means the token was copied.
+     */
+    @Override
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public AuthResponse refresh(String refreshToken) {
+        Instant now = Instant.now();
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(hashRefreshToken(refreshToken))
+            .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
+
+        if (stored.getRevokedAt() != null) {
+            log.warn("Revoked refresh token reused for user: {}, revoking all sessions", stored.getUserEmail());
+            refreshTokenRepository.revokeAllByUserEmail(stored.getUserEmail(), now);
+            throw new InvalidRefreshTokenException("Refresh token has been revoked");
+        }
+        if (!stored.getExpiresAt().isAfter(now)) {
+            throw new InvalidRefreshTokenException("Refresh token has expired");
+        }
+        if (refreshTokenRepository.revokeIfActive(stored.getId(), now) == 0) {
+            // Rotated concurrently by another request with the same token
+            throw new InvalidRefreshTokenException("Refresh token has already been used");
+        }
+
+        User user = userRepository.findByEmail(stored.getUserEmail())
+            .orElseThrow(() -> new InvalidRefreshTokenException("User no longer exists"));
+        UserDetails userDetails = userDetailsService.loadAuthenticatedUser(user.getEmail());
+
+        String token = tokenProvider.generateToken(userDetails);
+        String newRefreshToken = issueRefreshToken(user.getEmail());
+
+        UserResponse userResponse = UserResponse.builder()
+            .id(user.getId())
+            .email(user.getEmail())
+            .firstName(user.getFirstName())
+            .lastName(user.getLastName())
+            .role(user.getRole().name())
+            .build();
+
+        return new AuthResponse(token, newRefreshToken, userResponse);
+    }
+
+    /**
+     * Revokes the refresh token and, when given, the access token so it stops working before it expires.
+     */
+    @Override
+    @Transactional
+    public void logout(String refreshToken, String accessToken) {
+        Instant now = Instant.now();
+        if (refreshToken != null) {
+            refreshTokenRepository.findByTokenHash(hashRefreshToken(refreshToken))
+                .ifPresent(stored -> refreshTokenRepository.revokeIfActive(stored.getId(), now));
+        }
+        if (accessToken != null) {
+            Claims claims = tokenProvider.parseValidToken(accessToken);
+            if (claims != null && claims.getExpiration() != null) {
+                tokenRevocationRegistry.revoke(claims.getId(), claims.getExpiration().toInstant());
+            }
+        }
+    }
+
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void deleteExpiredRefreshTokens() {
+        int deleted = refreshTokenRepository.deleteExpired(Instant.now());
+        log.info("Deleted {} expired refresh tokens", deleted);
+    }
+
+    private String issueRefreshToken(String userEmail) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        Instant now = Instant.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+            .tokenHash(hashRefreshToken(refreshToken))
+            .userEmail(userEmail)
+            .createdAt(now)
+            .expiresAt(now.plusMillis(refreshExpiration))
+            .build());
+        return refreshToken;
+    }
+
+    private static String hashRefreshToken(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
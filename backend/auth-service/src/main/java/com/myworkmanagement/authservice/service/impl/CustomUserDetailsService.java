@@ -2,6 +2,7 @@ package com.myworkmanagement.authservice.service.impl;
 
 import com.myworkmanagement.authservice.entity.User;
 import com.myworkmanagement.authservice.repository.UserRepository;
+import com.myworkmanagement.authservice.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,16 +16,53 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
+    /**
+     * Loads the user with its password hash from the database. This is the login path, so it never uses the cache.
+     */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        User user = findUser(email);
+        List<SimpleGrantedAuthority> authorities = authoritiesOf(user);
+        userDetailsCache.put(user.getEmail(), authorities);
 
         return new org.springframework.security.core.userdetails.User(
                 user.getEmail(),
                 user.getPassword(),
-                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+                authorities
         );
     }
+
+    /**
+     * Loads the user of an already authenticated request, from the cache when possible. The returned details carry
+     * no password.
+     */
+    public UserDetails loadAuthenticatedUser(String email) throws UsernameNotFoundException {
+        UserDetails cached = userDetailsCache.get(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        User user = findUser(email);
+        List<SimpleGrantedAuthority> authorities = authoritiesOf(user);
+        userDetailsCache.put(user.getEmail(), authorities);
+        return new org.springframework.security.core.userdetails.User(user.getEmail(), "", authorities);
+    }
+
+    private User findUser(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+    }
+
+    private static List<SimpleGrantedAuthority> authoritiesOf(User user) {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+    }
+
+    /**
+     * Drops the cached details of a user. Call after changing a user outside of JPA (bulk updates, native SQL).
+     */
+    public void evictUser(String email) {
+        userDetailsCache.evict(email);
+    }
 } 
\ No newline at end of file
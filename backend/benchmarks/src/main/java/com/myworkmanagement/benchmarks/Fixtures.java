@@ -0,0 +1,154 @@
+package com.myworkmanagement.benchmarks;
+
+import com.myworkmanagement.company.dto.TaskDTO;
+import com.myworkmanagement.company.entity.Client;
+import com.myworkmanagement.company.entity.Company;
+import com.myworkmanagement.company.entity.Contract;
+import com.myworkmanagement.company.entity.ContractStatus;
+import com.myworkmanagement.company.entity.Project;
+import com.myworkmanagement.company.entity.Task;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic test data and repository stand-ins shared by the benchmarks.
+ */
+public final class Fixtures {
+
+    private static final String[] WORDS = {
+            "Fix", "login", "timeout", "on", "the", "monthly", "invoice", "export", "when", "the", "customer",
+            "has", "more", "than", "one", "open", "contract", "and", "several", "projects", "in", "progress"
+    };
+
+    private Fixtures() {
+    }
+
+    public static Project project() {
+        Company company = Company.builder().id(1L).name("Dedagroup").build();
+        return Project.builder()
+                .id(10L)
+                .company(company)
+                .name("Gestionale")
+                .dailyRate(new BigDecimal("400.00"))
+                .currency("EUR")
+                .build();
+    }
+
+    public static List<Task> tasks(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        Project project = project();
+        Client client = Client.builder().id(100L).project(project).name("Comune di Trento").build();
+        LocalDate month = LocalDate.of(2025, 11, 1);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate start = month.plusDays(random.nextInt(28));
+            tasks.add(Task.builder()
+                    .id((long) i + 1)
+                    .project(project)
+                    .title(sentence(random, 4 + random.nextInt(6)))
+                    .description(sentence(random, 10 + random.nextInt(30)))
+                    .ticketId("TCK-" + (10_000 + i))
+                    .startDate(start)
+                    .endDate(start.plusDays(random.nextInt(3)))
+                    .hoursWorked(BigDecimal.valueOf(1 + random.nextInt(16), 1).multiply(BigDecimal.valueOf(5)))
+                    .rateUsed(new BigDecimal("50.00"))
+                    .type(random.nextBoolean() ? "EVOLUTIVA" : "CORRETTIVA")
+                    .currency("EUR")
+                    .isBilled(false)
+                    .isPaid(false)
+                    .client(random.nextInt(4) > 0 ? client : null)
+                    .userEmail("user@example.com")
+                    .createdAt(start.atStartOfDay())
+                    .updatedAt(LocalDateTime.of(2025, 12, 1, 9, 0))
+                    .build());
+        }
+        return tasks;
+    }
+
+    public static List<TaskDTO> taskDTOs(int count) {
+        List<TaskDTO> dtos = new ArrayList<>(count);
+        for (Task task : tasks(count)) {
+            dtos.add(TaskDTO.builder()
+                    .id(task.getId())
+                    .projectId(task.getProject().getId())
+                    .projectName(task.getProject().getName())
+                    .companyName(task.getProject().getCompany().getName())
+                    .title(task.getTitle())
+                    .description(task.getDescription())
+                    .ticketId(task.getTicketId())
+                    .startDate(task.getStartDate())
+                    .endDate(task.getEndDate())
+                    .hoursWorked(task.getHoursWorked())
+                    .rateUsed(task.getRateUsed())
+                    .type(task.getType())
+                    .currency(task.getCurrency())
+                    .userEmail(task.getUserEmail())
+                    .build());
+        }
+        return dtos;
+    }
+
+    /**
+     * Contracts whose combined budget covers roughly {@code coverage} of the given tasks, so allocation splits tasks.
+     */
+    public static List<Contract> contracts(int count, List<TaskDTO> tasks, double coverage) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (TaskDTO task : tasks) {
+            total = total.add(task.getHoursWorked().multiply(task.getRateUsed()));
+        }
+        BigDecimal each = total.multiply(BigDecimal.valueOf(coverage))
+                .divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+        List<Contract> contracts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            contracts.add(Contract.builder()
+                    .id((long) i + 1)
+                    .name("Contract " + i)
+                    .code("CTR-" + i)
+                    .totalAmount(each)
+                    .amountAvailable(each)
+                    .startDate(LocalDate.of(2025, 1, 1))
+                    .status(ContractStatus.OPEN)
+                    .build());
+        }
+        return contracts;
+    }
+
+    /**
+     * Implements a repository (or any interface) whose methods return the value registered under their name,
+     * or {@code null} for the others. Enough for the code under test, which does not go through JPA.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Map<String, Object> returns) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "stub " + type.getSimpleName();
+                default:
+                    return returns.get(method.getName());
+            }
+        });
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
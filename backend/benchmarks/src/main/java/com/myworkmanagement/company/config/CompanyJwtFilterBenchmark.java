@@ -0,0 +1,104 @@
+package com.myworkmanagement.company.config;
+
+import com.myworkmanagement.authservice.security.JwtKeyStore;
+import com.myworkmanagement.authservice.security.JwtTokenProvider;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.security.PublicKey;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * company-service's JWT filter with tokens signed by auth-service's key store.
+ * {@code cachedToken} reuses one token, so it hits the verified-token cache; {@code uncachedToken} rotates tokens
+ * through a one-entry cache, so every request verifies the RS256 signature and parses the claims.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompanyJwtFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter cachingFilter;
+    private JwtAuthenticationFilter verifyingFilter;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        JwtKeyStore keyStore = new JwtKeyStore("", List.of(), devEnvironment());
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(keyStore);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", TimeUnit.HOURS.toMillis(1));
+        User user = new User("user@example.com", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        tokens = new String[16];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = tokenProvider.generateToken(user);
+        }
+
+        // Serves the auth-service key directly instead of fetching the JWKS
+        AuthServiceConfig authServiceConfig = new AuthServiceConfig();
+        JwksKeyProvider keyProvider = new JwksKeyProvider(new RestTemplate(), authServiceConfig, Long.MAX_VALUE) {
+            @Override
+            public PublicKey getKey(String keyId) {
+                return keyStore.getVerificationKey(keyId);
+            }
+        };
+        TokenRevocationCache revocationCache = new TokenRevocationCache(new RestTemplate(), authServiceConfig, 1000, 0.01);
+        cachingFilter = new JwtAuthenticationFilter(keyProvider, revocationCache, 10_000);
+        verifyingFilter = new JwtAuthenticationFilter(keyProvider, revocationCache, 1);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse cachedToken() throws ServletException, IOException {
+        return filter(cachingFilter, tokens[0]);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse uncachedToken() throws ServletException, IOException {
+        next = (next + 1) % tokens.length;
+        return filter(verifyingFilter, tokens[next]);
+    }
+
+    private static MockHttpServletResponse filter(JwtAuthenticationFilter filter, String token)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, NO_OP_CHAIN);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    private static MockEnvironment devEnvironment() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("dev");
+        return environment;
+    }
+}
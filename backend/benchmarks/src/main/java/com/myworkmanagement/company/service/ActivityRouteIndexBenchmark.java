@@ -0,0 +1,134 @@
+package com.myworkmanagement.company.service;
+
+import com.myworkmanagement.benchmarks.Fixtures;
+import com.myworkmanagement.company.entity.ActivityEndpointMap;
+import com.myworkmanagement.company.repository.ActivityEndpointMapRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Endpoint to activity matching done on every reminder preflight: the {@link ActivityRouteIndex} trie against
+ * the {@code regex*} baseline, which reproduces the former {@code ActivityReminderServiceImpl.pathMatches}
+ * (a regex built and matched per mapping per call). The baseline gets the mappings of the method from memory,
+ * so it is measured without the database query it used to make.
+ * The table holds the default mappings plus {@code extraMappings} generated ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActivityRouteIndexBenchmark {
+
+    @Param({"0", "500"})
+    public int extraMappings;
+
+    private ActivityRouteIndex routeIndex;
+    // Baseline input: the enabled mappings of each HTTP method, as the former per-call query returned them
+    private Map<String, List<ActivityEndpointMap>> mappingsByMethod;
+
+    @Setup
+    public void setUp() {
+        List<ActivityEndpointMap> mappings = new ArrayList<>(List.of(
+                mapping("Generate SAL", "/tasks/sal/pdf", "GET"),
+                mapping("Info For Bill", "/tasks", "GET"),
+                mapping("Info For Bill", "/projects/{projectId}/tasks", "GET"),
+                mapping("Update Billing Status", "/tasks/billing-status", "PUT"),
+                mapping("Update Payment Status", "/tasks/payment-status", "PUT"),
+                mapping("Create New Task", "/projects/{projectId}/tasks", "POST")));
+        for (int i = 0; i < extraMappings; i++) {
+            mappings.add(mapping("Activity " + i, "/area" + (i % 20) + "/{id}/resource" + i, i % 2 == 0 ? "GET" : "POST"));
+        }
+        routeIndex = new ActivityRouteIndex(Fixtures.stub(ActivityEndpointMapRepository.class,
+                Map.of("findByEnabledTrueOrderByIdAsc", mappings)));
+        routeIndex.refresh();
+        mappingsByMethod = mappings.stream().collect(Collectors.groupingBy(ActivityEndpointMap::getHttpMethod));
+    }
+
+    @Benchmark
+    public Set<String> matchVariable() {
+        return routeIndex.findActivities("GET", "/projects/42/tasks");
+    }
+
+    @Benchmark
+    public Set<String> matchLiteral() {
+        return routeIndex.findActivities("PUT", "/tasks/billing-status");
+    }
+
+    @Benchmark
+    public Set<String> noMatch() {
+        return routeIndex.findActivities("GET", "/companies/7/contracts");
+    }
+
+    @Benchmark
+    public Set<String> regexMatchVariable() {
+        return regexFindActivities("GET", "/projects/42/tasks");
+    }
+
+    @Benchmark
+    public Set<String> regexMatchLiteral() {
+        return regexFindActivities("PUT", "/tasks/billing-status");
+    }
+
+    @Benchmark
+    public Set<String> regexNoMatch() {
+        return regexFindActivities("GET", "/companies/7/contracts");
+    }
+
+    private Set<String> regexFindActivities(String method, String path) {
+        Set<String> matchedActivities = new LinkedHashSet<>();
+        for (ActivityEndpointMap mapping : mappingsByMethod.getOrDefault(method, List.of())) {
+            if (pathMatches(mapping.getEndpointPattern(), path)) {
+                matchedActivities.add(mapping.getActivityName());
+            }
+        }
+        return matchedActivities;
+    }
+
+    // The matcher the route index replaced, kept verbatim as the baseline
+    private static boolean pathMatches(String pattern, String actualPath) {
+        StringBuilder regex = new StringBuilder("^");
+        int segmentStart = 0;
+        int openBrace;
+        while ((openBrace = pattern.indexOf('{', segmentStart)) >= 0) {
+            int closeBrace = pattern.indexOf('}', openBrace);
+            if (closeBrace < 0) {
+                break;
+            }
+            regex.append(Pattern.quote(pattern.substring(segmentStart, openBrace)));
+            regex.append("[^/]+");
+            segmentStart = closeBrace + 1;
+        }
+        regex.append(Pattern.quote(pattern.substring(segmentStart)));
+        regex.append("$");
+        return actualPath.matches(regex.toString());
+    }
+
+    private static ActivityEndpointMap mapping(String activity, String pattern, String method) {
+        return ActivityEndpointMap.builder()
+                .activityName(activity)
+                .endpointPattern(pattern)
+                .httpMethod(method)
+                .enabled(true)
+                .build();
+    }
+}
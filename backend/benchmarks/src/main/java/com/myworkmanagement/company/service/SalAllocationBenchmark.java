@@ -0,0 +1,56 @@
+package com.myworkmanagement.company.service;
+
+import com.myworkmanagement.benchmarks.Fixtures;
+import com.myworkmanagement.company.dto.TaskDTO;
+import com.myworkmanagement.company.entity.Contract;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation of SAL tasks across contracts (formerly {@code TaskController.allocateTasksToContracts}).
+ * Contracts cover 80% of the work, so the last contract overflows and tasks get split.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SalAllocationBenchmark {
+
+    @Param({"50", "500"})
+    public int taskCount;
+
+    @Param({"1", "4"})
+    public int contractCount;
+
+    private SalAllocationService allocationService;
+    private List<TaskDTO> tasks;
+    private List<Contract> contracts;
+
+    @Setup
+    public void setUp() {
+        allocationService = new SalAllocationService(new SimpleMeterRegistry());
+        tasks = Fixtures.taskDTOs(taskCount);
+        contracts = Fixtures.contracts(contractCount, tasks, 0.8);
+    }
+
+    @Benchmark
+    public Map<Contract, List<TaskDTO>> allocate() {
+        return allocationService.allocateTasksToContracts(tasks, contracts);
+    }
+}
@@ -0,0 +1,65 @@
+package com.myworkmanagement.company.service;
+
+import com.myworkmanagement.benchmarks.Fixtures;
+import com.myworkmanagement.company.dto.TaskDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SAL PDF rendering, end to end and for the text wrapping it does for every table cell.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SalPdfBenchmark {
+
+    @Param({"10", "100"})
+    public int taskCount;
+
+    private SalPdfService salPdfService;
+    private List<TaskDTO> tasks;
+    private PDType1Font font;
+    private String longText;
+
+    @Setup
+    public void setUp() {
+        salPdfService = new SalPdfService(new SimpleMeterRegistry());
+        tasks = Fixtures.taskDTOs(taskCount);
+        font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        longText = tasks.get(0).getDescription() + " " + tasks.get(1).getDescription();
+    }
+
+    @Benchmark
+    public byte[] generateSalPdf() throws IOException {
+        return salPdfService.generateSalPdf(tasks, "user@example.com", "Mario Rossi", "Via Roma 1, Trento",
+                "+39 0461 000000", "mario.rossi@example.com", "Gestionale", LocalDate.of(2025, 11, 1),
+                "CTR-1", new BigDecimal("50000.00"));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public List<String> wrapText() throws IOException {
+        return salPdfService.wrapText(longText, 180f, font, 9f);
+    }
+}
@@ -0,0 +1,91 @@
+package com.myworkmanagement.company.service;
+
+import com.myworkmanagement.benchmarks.Fixtures;
+import com.myworkmanagement.company.dto.TaskDTO;
+import com.myworkmanagement.company.entity.Contract;
+import com.myworkmanagement.company.entity.Task;
+import com.myworkmanagement.company.entity.TaskContractUsage;
+import com.myworkmanagement.company.repository.ClientRepository;
+import com.myworkmanagement.company.repository.ContractRepository;
+import com.myworkmanagement.company.repository.ProjectRepository;
+import com.myworkmanagement.company.repository.TaskContractUsageRepository;
+import com.myworkmanagement.company.repository.TaskRepository;
+import com.myworkmanagement.company.service.impl.TaskServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task to DTO mapping used by every task list endpoint, for one page of tasks, through the public service API.
+ * The page and its contract usages are served from memory, so this measures the mapping itself, not the queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    @Param({"0", "2"})
+    public int usagesPerTask;
+
+    private TaskService taskService;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        List<Task> tasks = Fixtures.tasks(pageSize);
+        Contract contract = Contract.builder().id(1L).code("CTR-1").build();
+        List<TaskContractUsage> usages = new ArrayList<>();
+        for (Task task : tasks) {
+            for (int i = 0; i < usagesPerTask; i++) {
+                usages.add(TaskContractUsage.builder()
+                        .id((long) usages.size() + 1)
+                        .task(task)
+                        .contract(contract)
+                        .contractCode(contract.getCode())
+                        .amountUsed(new BigDecimal("125.00"))
+                        .build());
+            }
+        }
+        pageable = PageRequest.of(0, pageSize);
+        Page<Task> page = new PageImpl<>(tasks, pageable, tasks.size());
+        taskService = new TaskServiceImpl(
+                Fixtures.stub(TaskRepository.class, Map.of("findByIsBilledFalse", page)),
+                Fixtures.stub(ProjectRepository.class, Map.of()),
+                Fixtures.stub(ClientRepository.class, Map.of()),
+                Fixtures.stub(ContractRepository.class, Map.of()),
+                Fixtures.stub(TaskContractUsageRepository.class, Map.of("findByTaskIdIn", usages)),
+                Fixtures.stub(SheetSyncOutboxService.class, Map.of()));
+    }
+
+    @Benchmark
+    public void convertPage(Blackhole blackhole) {
+        for (TaskDTO dto : taskService.getUnbilledTasks(pageable)) {
+            blackhole.consume(dto);
+        }
+    }
+}
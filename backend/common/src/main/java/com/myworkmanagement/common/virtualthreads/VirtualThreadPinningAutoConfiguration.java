@@ -0,0 +1,30 @@
+package com.myworkmanagement.common.virtualthreads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * Starts a {@link VirtualThreadPinningMonitor} in every service that runs requests on virtual threads.
+ * Nothing injects the monitor, so it is kept eager when {@code spring.main.lazy-initialization} is on.
+ */
+@AutoConfiguration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningAutoConfiguration {
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                                                   @Value("${virtual-threads.pinning.threshold-ms:20}") long thresholdMs) {
+        return new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(thresholdMs));
+    }
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerPinningMonitor() {
+        return LazyInitializationExcludeFilter.forBeanTypes(VirtualThreadPinningMonitor.class);
+    }
+}
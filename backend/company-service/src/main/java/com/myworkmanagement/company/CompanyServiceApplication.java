@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @OpenAPIDefinition(
@@ -15,6 +16,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
     )
 )
 @EnableAsync
+@EnableScheduling
 public class CompanyServiceApplication {
 
     public static void main(String[] args) {
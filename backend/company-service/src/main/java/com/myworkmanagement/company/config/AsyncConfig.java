@@ -0,0 +1,169 @@
+package com.myworkmanagement.company.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application task executor, used by {@code @Async} methods and by Spring MVC for asynchronous request handling.
+ * Sheets sync no longer runs here (it goes through the outbox flushed by a scheduled job), and no {@code @Async}
+ * method is left at the moment; the executor keeps any new one bounded and measured.
+ * Runs on a bounded platform-thread pool with a bounded queue by default; when the queue is full the
+ * configured rejection policy applies backpressure. When virtual threads are enabled it runs on them with a
+ * concurrency limit instead. Queue depth, active threads, rejections, queue wait and execution time are
+ * published as Micrometer metrics under {@code async.executor.*}.
+ */
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
+    private static final String EXECUTOR_NAME = "applicationTaskExecutor";
+
+    public enum RejectionPolicy {
+        // The submitting thread runs the task itself, slowing producers down
+        CALLER_RUNS,
+        // The oldest queued task is discarded to make room; its future never completes
+        DROP_OLDEST
+    }
+
+    @Value("${async.executor.core-pool-size:4}")
+    private int corePoolSize;
+
+    @Value("${async.executor.max-pool-size:8}")
+    private int maxPoolSize;
+
+    @Value("${async.executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${async.executor.rejection-policy:CALLER_RUNS}")
+    private RejectionPolicy rejectionPolicy;
+
+    @Value("${async.executor.virtual-threads:${spring.threads.virtual.enabled:false}}")
+    private boolean virtualThreads;
+
+    private final MeterRegistry meterRegistry;
+
+    public AsyncConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean(name = EXECUTOR_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        TaskDecorator timing = timingDecorator();
+
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-vt-");
+            executor.setVirtualThreads(true);
+            // Callers block once the limit is reached, which is the backpressure in this mode
+            executor.setConcurrencyLimit(maxPoolSize);
+            executor.setTaskDecorator(timing);
+            Gauge.builder("async.executor.throttled", executor, e -> e.isThrottleActive() ? 1 : 0)
+                    .description("1 when the virtual-thread executor has reached its concurrency limit")
+                    .tag("name", EXECUTOR_NAME)
+                    .register(meterRegistry);
+            log.info("Async executor running on virtual threads with concurrency limit {}", maxPoolSize);
+            return executor;
+        }
+
+        Counter rejected = Counter.builder("async.executor.rejected")
+                .description("Tasks that did not fit in the queue and were handled by the rejection policy")
+                .tag("name", EXECUTOR_NAME)
+                .tag("policy", rejectionPolicy.name())
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("async-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(countingHandler(rejected));
+        executor.setTaskDecorator(timing);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        Gauge.builder("async.executor.queued", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Tasks waiting in the executor queue")
+                .tag("name", EXECUTOR_NAME)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Threads currently running tasks")
+                .tag("name", EXECUTOR_NAME)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .description("Current number of threads in the pool")
+                .tag("name", EXECUTOR_NAME)
+                .register(meterRegistry);
+
+        log.info("Async executor: core={}, max={}, queue={}, rejection={}",
+                corePoolSize, maxPoolSize, queueCapacity, rejectionPolicy);
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return applicationTaskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("Uncaught exception in async method {}: {}",
+                method.getName(), ex.getMessage(), ex);
+    }
+
+    /**
+     * Records how long each task waited before starting and how long it ran.
+     */
+    private TaskDecorator timingDecorator() {
+        Timer queueWait = Timer.builder("async.executor.queue.wait")
+                .description("Time between submission and start of an async task")
+                .tag("name", EXECUTOR_NAME)
+                .register(meterRegistry);
+        Timer execution = Timer.builder("async.executor.execution")
+                .description("Execution time of async tasks")
+                .tag("name", EXECUTOR_NAME)
+                .register(meterRegistry);
+        return runnable -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                queueWait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    runnable.run();
+                } finally {
+                    execution.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+
+    private RejectedExecutionHandler countingHandler(Counter rejected) {
+        RejectedExecutionHandler delegate = rejectionPolicy == RejectionPolicy.DROP_OLDEST
+                ? new ThreadPoolExecutor.DiscardOldestPolicy()
+                : new ThreadPoolExecutor.CallerRunsPolicy();
+        return (task, pool) -> {
+            rejected.increment();
+            if (rejectionPolicy == RejectionPolicy.DROP_OLDEST) {
+                log.warn("Async executor queue full, dropping the oldest queued task");
+            }
+            delegate.rejectedExecution(task, pool);
+        };
+    }
+}
@@ -3,6 +3,7 @@ package com.myworkmanagement.company.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
@@ -14,9 +15,18 @@ public class AuthServiceConfig {
     @Value("${auth-service.validate-token-path}")
     private String validateTokenPath;
 
+    @Value("${auth-service.jwks-path:/.well-known/jwks.json}")
+    private String jwksPath;
+
+    @Value("${auth-service.revocations-path:/api/auth/revocations}")
+    private String revocationsPath;
+
     @Bean
     public RestTemplate restTemplate() {
-        return new RestTemplate();
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(2000);
+        requestFactory.setReadTimeout(5000);
+        return new RestTemplate(requestFactory);
     }
 
     public String getAuthServiceUrl() {
@@ -26,4 +36,12 @@ public class AuthServiceConfig {
     public String getValidateTokenPath() {
         return validateTokenPath;
     }
-} 
\ No newline at end of file
+
+    public String getJwksPath() {
+        return jwksPath;
+    }
+
+    public String getRevocationsPath() {
+        return revocationsPath;
+    }
+}
@@ -0,0 +1,133 @@
+package com.myworkmanagement.company.config;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Public keys of auth-service, fetched from its JWKS endpoint and kept in memory.
+ * Keys are refreshed in the background; a token signed with an unknown {@code kid} triggers an early refresh,
+ * at most once per {@code jwt.jwks.min-refresh-interval-ms}, so a newly rotated key is picked up without restarts.
+ * Auth-service keeps publishing the previous keys during a rotation, and the last good key set is kept
+ * when auth-service cannot be reached.
+ */
+@Component
+public class JwksKeyProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(JwksKeyProvider.class);
+
+    private final RestTemplate restTemplate;
+    private final String jwksUrl;
+    private final long minRefreshIntervalMs;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastRefreshAttempt;
+    // Serializes refreshes, held across the HTTP call, which may run on a request thread
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public JwksKeyProvider(RestTemplate restTemplate,
+                           AuthServiceConfig authServiceConfig,
+                           @Value("${jwt.jwks.min-refresh-interval-ms:30000}") long minRefreshIntervalMs) {
+        this.restTemplate = restTemplate;
+        this.jwksUrl = authServiceConfig.getAuthServiceUrl() + authServiceConfig.getJwksPath();
+        this.minRefreshIntervalMs = minRefreshIntervalMs;
+    }
+
+    /**
+     * Returns the public key with the given ID, refreshing the key set once if it is not known yet.
+     */
+    public PublicKey getKey(String keyId) {
+        if (keyId == null) {
+            return null;
+        }
+        PublicKey key = keys.get(keyId);
+        if (key == null && refreshDue()) {
+            refreshLock.lock();
+            try {
+                // Requests that queued behind a refresh see its keys instead of fetching again
+                key = keys.get(keyId);
+                if (key == null && refreshDue()) {
+                    fetchKeys();
+                    key = keys.get(keyId);
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return key;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.jwks.refresh-interval-ms:300000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            fetchKeys();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private boolean refreshDue() {
+        return System.currentTimeMillis() - lastRefreshAttempt >= minRefreshIntervalMs;
+    }
+
+    /**
+     * Replaces the key set with the one served by auth-service. Called with {@code refreshLock} held.
+     */
+    private void fetchKeys() {
+        lastRefreshAttempt = System.currentTimeMillis();
+        try {
+            JwkSet jwkSet = restTemplate.getForObject(jwksUrl, JwkSet.class);
+            if (jwkSet == null || jwkSet.keys == null) {
+                log.warn("Empty JWKS response from {}", jwksUrl);
+                return;
+            }
+            Map<String, PublicKey> fetched = new HashMap<>();
+            for (Jwk jwk : jwkSet.keys) {
+                if ("RSA".equals(jwk.kty) && jwk.kid != null && jwk.n != null && jwk.e != null) {
+                    fetched.put(jwk.kid, toPublicKey(jwk));
+                }
+            }
+            if (!fetched.keySet().equals(keys.keySet())) {
+                log.info("Loaded {} JWT verification keys from {}: {}", fetched.size(), jwksUrl, fetched.keySet());
+            }
+            keys = Map.copyOf(fetched);
+        } catch (Exception e) {
+            log.warn("Cannot refresh JWKS from {}, keeping {} cached keys: {}", jwksUrl, keys.size(), e.getMessage());
+        }
+    }
+
+    private static PublicKey toPublicKey(Jwk jwk) throws GeneralSecurityException {
+        BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.n));
+        BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.e));
+        return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class JwkSet {
+        public List<Jwk> keys;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Jwk {
+        public String kty;
+        public String kid;
+        public String n;
+        public String e;
+    }
+}
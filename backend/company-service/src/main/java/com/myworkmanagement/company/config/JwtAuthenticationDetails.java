@@ -0,0 +1,8 @@
+package com.myworkmanagement.company.config;
+
+/**
+ * Details of an authentication set by {@link JwtAuthenticationFilter}: the verified token's {@code jti} and its
+ * expiration in epoch milliseconds ({@code 0} when the token has none), for work that outlives the request.
+ */
+public record JwtAuthenticationDetails(String jti, long expiresAtMillis) {
+}
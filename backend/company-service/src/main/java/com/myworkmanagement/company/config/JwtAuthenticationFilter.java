@@ -1,15 +1,21 @@
 package com.myworkmanagement.company.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -17,21 +23,90 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final JwtParser jwtParser;
+    private final TokenRevocationCache tokenRevocationCache;
+
+    // SHA-256 of the token -> authentication verified from it, evicted when the token expires
+    // or, past jwt.cache.max-entries, when it is the least likely to be used again
+    private final Cache<String, CachedAuthentication> verifiedTokens;
+
+    public JwtAuthenticationFilter(JwksKeyProvider jwksKeyProvider,
+                                   TokenRevocationCache tokenRevocationCache,
+                                   @Value("${jwt.cache.max-entries:10000}") int cacheMaxEntries) {
+        // Tokens are signed by auth-service with RS256; the public key is looked up by the token's kid
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        if (!SignatureAlgorithm.RS256.getValue().equals(header.getAlgorithm())) {
+                            throw new UnsupportedJwtException("Unsupported token algorithm: " + header.getAlgorithm());
+                        }
+                        Key key = jwksKeyProvider.getKey(header.getKeyId());
+                        if (key == null) {
+                            throw new UnsupportedJwtException("Unknown signing key: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+        this.tokenRevocationCache = tokenRevocationCache;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxEntries)
+                .expireAfter(new Expiry<String, CachedAuthentication>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, CachedAuthentication cached, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, cached.expiresAtMillis - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, CachedAuthentication cached, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(tokenHash, cached, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, CachedAuthentication cached, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Principal and authorities of a verified token, kept until the token's expiration.
+     */
+    private static final class CachedAuthentication {
+        private final String jti;
+        private final String username;
+        private final List<SimpleGrantedAuthority> authorities;
+        private final long expiresAtMillis;
+
+        private CachedAuthentication(String jti, String username, List<SimpleGrantedAuthority> authorities, long expiresAtMillis) {
+            this.jti = jti;
+            this.username = username;
+            this.authorities = authorities;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -39,54 +114,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                   FilterChain filterChain) throws ServletException, IOException {
         
         String authHeader = request.getHeader("Authorization");
-        logger.info("Processing request to: " + request.getRequestURI());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Processing request to: " + request.getRequestURI());
+        }
         
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            logger.warn("No Bearer token found in request");
+            logger.debug("No Bearer token found in request");
             filterChain.doFilter(request, response);
             return;
         }
 
         try {
             String jwt = authHeader.substring(7);
-            logger.info("JWT token received: " + jwt.substring(0, 20) + "...");
-            
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(jwt)
-                    .getBody();
-
-            String username = claims.getSubject();
-            logger.info("Username from token: " + username);
-            
-            // Handle authorities safely
-            List<SimpleGrantedAuthority> grantedAuthorities = new ArrayList<>();
-            if (claims.get("authorities") != null) {
-                @SuppressWarnings("unchecked")
-                List<String> authorities = claims.get("authorities", List.class);
-                if (authorities != null) {
-                    grantedAuthorities = authorities.stream()
-                            .map(SimpleGrantedAuthority::new)
-                            .collect(Collectors.toList());
-                    logger.info("Authorities found: " + grantedAuthorities);
-                } else {
-                    logger.warn("Authorities claim is null");
+            String tokenHash = hashToken(jwt);
+
+            CachedAuthentication cached = verifiedTokens.getIfPresent(tokenHash);
+            if (cached == null) {
+                cached = verify(jwt);
+                if (cached.expiresAtMillis > 0) {
+                    verifiedTokens.put(tokenHash, cached);
                 }
-            } else {
-                logger.warn("No authorities claim found in token");
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("Using cached authentication for: " + cached.username);
+            }
+
+            // Checked on every request, cached or not, so logout takes effect before the token expires
+            if (tokenRevocationCache.isRevoked(cached.jti)) {
+                verifiedTokens.invalidate(tokenHash);
+                SecurityContextHolder.clearContext();
+                handleUnauthorizedResponse(response, "JWT token has been revoked");
+                return;
             }
 
             UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                    username,
+                    cached.username,
                     null,
-                    grantedAuthorities
+                    cached.authorities
             );
+            auth.setDetails(new JwtAuthenticationDetails(cached.jti, cached.expiresAtMillis));
 
             SecurityContextHolder.getContext().setAuthentication(auth);
-            logger.info("Authentication set in SecurityContext");
             
         } catch (ExpiredJwtException e) {
             logger.warn("JWT token has expired: " + e.getMessage());
@@ -107,6 +174,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private CachedAuthentication verify(String jwt) {
+        Claims claims = jwtParser.parseClaimsJws(jwt).getBody();
+
+        String username = claims.getSubject();
+        
+        // Handle authorities safely
+        List<SimpleGrantedAuthority> grantedAuthorities = new ArrayList<>();
+        if (claims.get("authorities") != null) {
+            @SuppressWarnings("unchecked")
+            List<String> authorities = claims.get("authorities", List.class);
+            if (authorities != null) {
+                grantedAuthorities = authorities.stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toList());
+            } else {
+                logger.warn("Authorities claim is null");
+            }
+        } else {
+            logger.warn("No authorities claim found in token");
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Verified token for " + username + " with authorities " + grantedAuthorities);
+        }
+
+        // Tokens without an expiration are verified every time
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : 0;
+        return new CachedAuthentication(claims.getId(), username, List.copyOf(grantedAuthorities), expiresAt);
+    }
+
+    private static String hashToken(String jwt) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(jwt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private void handleUnauthorizedResponse(HttpServletResponse response, String message) throws IOException {
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
         response.setContentType("application/json");
@@ -118,7 +223,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         errorResponse.put("message", message);
         errorResponse.put("path", "");
         
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.writeValue(response.getWriter(), errorResponse);
+        OBJECT_MAPPER.writeValue(response.getWriter(), errorResponse);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.myworkmanagement.company.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Beans created at startup even when {@code spring.main.lazy-initialization} is on (the {@code faststart} profile).
+ * Migrations must run before the first request, and nothing injects the startup reporter, so lazily it would never run.
+ * The virtual thread pinning monitor is kept eager by its own auto-configuration in the common module.
+ * Beans with {@code @Scheduled} methods are already kept eager by Spring Boot.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                FlywayMigrationInitializer.class,
+                StartupTimeReporter.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.myworkmanagement.company.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Periodically measures how far the read replica is behind the primary.
+ * The replica is usable while the last check succeeded and the lag is within {@code datasource.replica.max-lag-ms};
+ * otherwise read-only transactions go to the primary until a later check finds it caught up.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // A replica with nothing left to replay is current even if the primary has been idle for a while
+    private static final String LAG_QUERY = "SELECT CASE"
+            + " WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)"
+            + " END";
+
+    private final DataSource replicaDataSource;
+    private final long maxLagMs;
+
+    private volatile boolean usable;
+    private volatile long lagMs = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagMs, MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagMs = maxLagMs;
+        Gauge.builder("datasource.replica.lag", this, m -> m.lagMs)
+                .description("Replication lag of the read replica in milliseconds, -1 when it cannot be measured")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, m -> m.usable ? 1 : 0)
+                .description("1 when read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        boolean wasUsable = usable;
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+            rs.next();
+            lagMs = rs.getLong(1);
+            usable = lagMs <= maxLagMs;
+            if (!usable && wasUsable) {
+                log.warn("Read replica is {} ms behind (limit {} ms), routing reads to the primary", lagMs, maxLagMs);
+            }
+        } catch (Exception e) {
+            lagMs = -1;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Cannot reach the read replica, routing reads to the primary: {}", e.getMessage());
+            }
+        }
+        if (usable && !wasUsable) {
+            log.info("Read replica is usable again ({} ms behind)", lagMs);
+        }
+    }
+}
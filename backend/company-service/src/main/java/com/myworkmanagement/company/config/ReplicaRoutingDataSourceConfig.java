@@ -0,0 +1,149 @@
+package com.myworkmanagement.company.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to a read replica and everything else to the primary.
+ * Each side has its own Hikari pool ({@code primary} and {@code replica}, published as {@code hikaricp.*} metrics
+ * tagged by pool). When the replica is unreachable or lags more than {@code datasource.replica.max-lag-ms},
+ * read-only transactions fall back to the primary.
+ * <p>
+ * The routing data source is wrapped in a {@link LazyConnectionDataSourceProxy}: the JPA transaction manager asks
+ * for a connection before the transaction is marked read-only, so the physical connection is only picked at the
+ * first statement. Reads that must see a write committed just before should not be read-only.
+ * <p>
+ * Read-only transactions only read the second-level and query caches and never fill them, so a lagging replica
+ * cannot leave stale entities there; the caches are filled by read-write transactions, which run on the primary.
+ * <p>
+ * Only active with {@code datasource.replica.enabled=true}; otherwise the auto-configured single pool is used.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingDataSourceConfig {
+
+    private enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    @Value("${datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${datasource.replica.username}")
+    private String replicaUsername;
+
+    @Value("${datasource.replica.password}")
+    private String replicaPassword;
+
+    @Value("${datasource.replica.max-pool-size:10}")
+    private int replicaMaxPoolSize;
+
+    @Value("${datasource.replica.max-lag-ms:5000}")
+    private long maxLagMs;
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(properties.getDriverClassName());
+        dataSource.setJdbcUrl(replicaUrl);
+        dataSource.setUsername(replicaUsername);
+        dataSource.setPassword(replicaPassword);
+        dataSource.setMaximumPoolSize(replicaMaxPoolSize);
+        dataSource.setReadOnly(true);
+        // Start even if the replica is down; the lag monitor keeps reads on the primary meanwhile
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               MeterRegistry meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, maxLagMs, meterRegistry);
+        monitor.check();
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        Counter toPrimary = routedCounter(meterRegistry, Target.PRIMARY);
+        Counter toReplica = routedCounter(meterRegistry, Target.REPLICA);
+
+        AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isUsable()) {
+                    toReplica.increment();
+                    return Target.REPLICA;
+                }
+                toPrimary.increment();
+                return Target.PRIMARY;
+            }
+        };
+        routing.setTargetDataSources(Map.of(Target.PRIMARY, primaryDataSource, Target.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public JpaTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager() {
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {
+                super.doBegin(transaction, definition);
+                EntityManagerHolder holder =
+                        (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+                // Set on every begin: with open-in-view one entity manager serves several transactions of a request
+                holder.getEntityManager().unwrap(Session.class)
+                        .setCacheMode(definition.isReadOnly() ? CacheMode.GET : CacheMode.NORMAL);
+            }
+        };
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, Target target) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Connections handed out by the routing data source, by target pool")
+                .tag("target", target.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,34 @@
+package com.myworkmanagement.company.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executor rendering the PDFs of batch SAL downloads. It is shared by every download, so concurrent requests
+ * queue for the same {@code sal.batch.render-threads} threads instead of each starting a pool of its own.
+ */
+@Configuration
+public class SalBatchConfig {
+
+    @Value("${sal.batch.render-threads:4}")
+    private int renderThreads;
+
+    @Value("${sal.batch.render-queue-capacity:100}")
+    private int renderQueueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor salRenderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("sal-render-");
+        executor.setCorePoolSize(renderThreads);
+        executor.setMaxPoolSize(renderThreads);
+        executor.setQueueCapacity(renderQueueCapacity);
+        // With the queue full the downloading request renders the document itself, which slows it down
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,67 @@
+package com.myworkmanagement.company.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Caffeine-backed JCache regions for the Hibernate second-level and query caches.
+ * Each region listed under {@code hibernate-cache.regions} gets its own maximum size and time to live; entity regions
+ * are named on the entities ({@code company}, {@code project}, {@code client}, {@code contract}). Region hit and miss
+ * counts are published by the Hibernate statistics as {@code hibernate.second.level.cache.requests} and per cache
+ * as {@code cache.gets}.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheConfig.class);
+
+    /**
+     * Limits of one region; a zero or missing time to live keeps entries until they are evicted by size.
+     */
+    public record RegionSettings(long maxSize, Duration ttl) {
+    }
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment, MeterRegistry meterRegistry) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-second-level-cache"), getClass().getClassLoader());
+
+        Map<String, RegionSettings> regions = Binder.get(environment)
+                .bind("hibernate-cache.regions", Bindable.mapOf(String.class, RegionSettings.class))
+                .orElse(Map.of());
+        regions.forEach((name, settings) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(settings.maxSize()));
+            if (settings.ttl() != null && !settings.ttl().isZero()) {
+                configuration.setExpireAfterWrite(OptionalLong.of(settings.ttl().toNanos()));
+            }
+            configuration.setStatisticsEnabled(true);
+            JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(name, configuration));
+        });
+        log.info("Second-level cache regions: {}", regions);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
@@ -0,0 +1,43 @@
+package com.myworkmanagement.company.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Load-test only: blocks every API request for {@code loadtest.downstream-delay-ms} before handling it,
+ * standing in for a slow downstream call. Used to compare platform and virtual request threads,
+ * where the platform pool saturates once enough requests are waiting.
+ */
+@Component
+@Profile("loadtest")
+public class SimulatedDownstreamLatencyFilter extends OncePerRequestFilter {
+
+    @Value("${loadtest.downstream-delay-ms:200}")
+    private long delayMs;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Interrupted while simulating downstream latency", e);
+        }
+        filterChain.doFilter(request, response);
+    }
+}
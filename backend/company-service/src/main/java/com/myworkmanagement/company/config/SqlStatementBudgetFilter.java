@@ -0,0 +1,129 @@
+package com.myworkmanagement.company.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements of every HTTP request and publishes them as the
+ * {@code http.server.requests.sql.statements} distribution, tagged by method and URI pattern.
+ * When a request runs more statements than {@code sql.statement-budget.max-statements}, or runs the same statement
+ * more than {@code sql.statement-budget.n-plus-one-threshold} times (the usual N+1 shape), the filter logs a warning
+ * ({@code WARN}) or an error ({@code FAIL}, meant for tests). {@code OFF} only records the metric.
+ * The count is only known once the response has been written, so instead of failing the request the filter stores
+ * the statements under {@link #SCOPE_ATTRIBUTE} and any violation under {@link #VIOLATION_ATTRIBUTE}, where tests assert on them.
+ * Endpoints listed under {@code sql.statement-budget.endpoints}, keyed by method and URI pattern
+ * (e.g. {@code "[GET /api/tasks]": 4}), use their own budget instead of the global one.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+
+    public static final String SCOPE_ATTRIBUTE = SqlStatementBudgetFilter.class.getName() + ".scope";
+    public static final String VIOLATION_ATTRIBUTE = SqlStatementBudgetFilter.class.getName() + ".violation";
+
+    public enum Mode {
+        OFF,
+        WARN,
+        FAIL
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sql.statement-budget.mode:WARN}")
+    private Mode mode;
+
+    @Value("${sql.statement-budget.max-statements:20}")
+    private int maxStatements;
+
+    @Value("${sql.statement-budget.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    private final Map<String, Integer> endpointBudgets;
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry, Environment environment) {
+        this.meterRegistry = meterRegistry;
+        this.endpointBudgets = Binder.get(environment)
+                .bind("sql.statement-budget.endpoints", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+        request.setAttribute(SCOPE_ATTRIBUTE, scope);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.close();
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements run while serving a request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.getTotal());
+
+        if (mode != Mode.OFF) {
+            checkBudget(request, request.getMethod() + " " + uri, scope);
+        }
+    }
+
+    /**
+     * Budget of an endpoint, keyed by method and URI pattern as in {@code sql.statement-budget.endpoints}.
+     */
+    public int budgetOf(String endpoint) {
+        return endpointBudgets.getOrDefault(endpoint, maxStatements);
+    }
+
+    private void checkBudget(HttpServletRequest request, String endpoint, SqlStatementCounter.Scope scope) {
+        int budget = budgetOf(endpoint);
+        StringBuilder problems = new StringBuilder();
+        if (scope.getTotal() > budget) {
+            problems.append(String.format("%d SQL statements (budget %d)", scope.getTotal(), budget));
+        }
+        for (Map.Entry<String, Integer> entry : scope.getCountsBySql().entrySet()) {
+            if (entry.getValue() > nPlusOneThreshold) {
+                if (problems.length() > 0) {
+                    problems.append("; ");
+                }
+                problems.append(String.format("possible N+1, ran %d times: %s", entry.getValue(), entry.getKey()));
+            }
+        }
+        if (problems.length() == 0) {
+            return;
+        }
+
+        String message = endpoint + ": " + problems;
+        request.setAttribute(VIOLATION_ATTRIBUTE, message);
+        if (mode == Mode.FAIL) {
+            log.error("SQL statement budget exceeded by {}", message);
+        } else {
+            log.warn("SQL statement budget exceeded by {}", message);
+        }
+    }
+}
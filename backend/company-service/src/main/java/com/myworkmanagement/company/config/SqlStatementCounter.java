@@ -0,0 +1,52 @@
+package com.myworkmanagement.company.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hibernate statement inspector that counts the SQL statements run on the current thread while a scope is open.
+ * {@link SqlStatementBudgetFilter} opens one scope per HTTP request; statements outside a scope are not tracked.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Statements seen during one request, with how many times each distinct SQL string ran.
+     */
+    public static final class Scope {
+        private int total;
+        private final Map<String, Integer> countsBySql = new HashMap<>();
+
+        public int getTotal() {
+            return total;
+        }
+
+        public Map<String, Integer> getCountsBySql() {
+            return countsBySql;
+        }
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope();
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.total++;
+            // Bind parameters are placeholders, so the same query in a loop has the same SQL string
+            scope.countsBySql.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+}
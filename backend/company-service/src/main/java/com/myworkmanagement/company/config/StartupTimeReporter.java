@@ -0,0 +1,34 @@
+package com.myworkmanagement.company.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Logs how long the service took to become ready, measured from JVM start, together with the startup
+ * optimizations in effect, so runs with and without the {@code faststart} build can be compared from the logs.
+ * The same durations are published by Spring Boot as the {@code application.started.time} and
+ * {@code application.ready.time} gauges.
+ */
+@Component
+public class StartupTimeReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimeReporter.class);
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        List<String> jvmArguments = ManagementFactory.getRuntimeMXBean().getInputArguments();
+        boolean cds = jvmArguments.stream().anyMatch(a -> a.startsWith("-XX:SharedArchiveFile="));
+        boolean lazy = event.getApplicationContext().getEnvironment()
+                .getProperty("spring.main.lazy-initialization", Boolean.class, false);
+        log.info("Ready in {} ms since JVM start (context {} ms; AOT: {}, CDS archive: {}, lazy initialization: {})",
+                ManagementFactory.getRuntimeMXBean().getUptime(), event.getTimeTaken().toMillis(),
+                AotDetector.useGeneratedArtifacts(), cds, lazy);
+    }
+}
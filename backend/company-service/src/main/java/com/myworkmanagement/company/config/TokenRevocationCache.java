@@ -0,0 +1,111 @@
+package com.myworkmanagement.company.config;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory mirror of the access tokens revoked in auth-service, keyed by {@code jti}.
+ * New revocations are polled incrementally from auth-service; lookups go through a Bloom filter first
+ * and only possible matches are checked against the exact set, so the per-request check is O(1) without remote calls.
+ * Revocations take effect here within one poll interval.
+ */
+@Component
+public class TokenRevocationCache {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationCache.class);
+    // Re-read a little history on every poll so revocations committed out of order are not missed
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(30);
+
+    private final RestTemplate restTemplate;
+    private final String revocationsUrl;
+    private final int expectedRevocations;
+    private final double falsePositiveRate;
+
+    // jti -> expiration of the revoked token
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter<CharSequence> bloomFilter;
+    private Instant lastRevokedAt = Instant.EPOCH;
+    // Serializes polls, held across the HTTP call
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    public TokenRevocationCache(RestTemplate restTemplate,
+                                AuthServiceConfig authServiceConfig,
+                                @Value("${jwt.revocation.expected-entries:10000}") int expectedRevocations,
+                                @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.restTemplate = restTemplate;
+        this.revocationsUrl = authServiceConfig.getAuthServiceUrl() + authServiceConfig.getRevocationsPath();
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = newBloomFilter(expectedRevocations);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        Instant expiresAt = revoked.get(jti);
+        return expiresAt != null;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.poll-interval-ms:10000}")
+    public void poll() {
+        pollLock.lock();
+        try {
+            Instant since = lastRevokedAt.equals(Instant.EPOCH) ? Instant.EPOCH : lastRevokedAt.minus(POLL_OVERLAP);
+            String url = UriComponentsBuilder.fromHttpUrl(revocationsUrl)
+                    .queryParam("since", since.toString())
+                    .toUriString();
+            try {
+                RevokedTokenEntry[] entries = restTemplate.getForObject(url, RevokedTokenEntry[].class);
+                if (entries != null) {
+                    for (RevokedTokenEntry entry : entries) {
+                        if (entry.jti != null && entry.expiresAt != null && revoked.put(entry.jti, entry.expiresAt) == null) {
+                            bloomFilter.put(entry.jti);
+                        }
+                        if (entry.revokedAt != null && entry.revokedAt.isAfter(lastRevokedAt)) {
+                            lastRevokedAt = entry.revokedAt;
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("Cannot poll token revocations from {}: {}", revocationsUrl, e.getMessage());
+            }
+
+            Instant now = Instant.now();
+            if (revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now))) {
+                // Bloom filters cannot forget, so rebuild without the expired entries
+                BloomFilter<CharSequence> rebuilt = newBloomFilter(Math.max(expectedRevocations, revoked.size() * 2));
+                revoked.keySet().forEach(rebuilt::put);
+                bloomFilter = rebuilt;
+            }
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private BloomFilter<CharSequence> newBloomFilter(int expectedInsertions) {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveRate);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class RevokedTokenEntry {
+        public String jti;
+        public Instant expiresAt;
+        public Instant revokedAt;
+    }
+}
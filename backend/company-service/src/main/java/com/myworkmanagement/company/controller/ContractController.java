@@ -2,6 +2,7 @@ package com.myworkmanagement.company.controller;
 
 import com.myworkmanagement.company.dto.ContractDTO;
 import com.myworkmanagement.company.service.ContractService;
+import com.myworkmanagement.company.service.DataVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,6 +19,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -29,6 +31,7 @@ import java.util.List;
 public class ContractController {
 
     private final ContractService contractService;
+    private final DataVersionService dataVersionService;
 
     @PostMapping("/companies/{companyId}/contracts")
     @Operation(summary = "Create a new contract", description = "Creates a new contract for a company")
@@ -80,12 +83,15 @@ public class ContractController {
     @Operation(summary = "Get all contracts for the authenticated user", description = "Retrieves a paginated list of all contracts")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved contracts"),
+        @ApiResponse(responseCode = "304", description = "Contracts unchanged since the ETag in If-None-Match"),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<Page<ContractDTO>> getAllContracts(Pageable pageable) {
+    public ResponseEntity<Page<ContractDTO>> getAllContracts(Pageable pageable, WebRequest webRequest) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return ResponseEntity.ok(contractService.getContractsByUserEmail(auth.getName(), pageable));
+        return dataVersionService.conditionalGet(webRequest,
+                () -> dataVersionService.contractsETag(auth.getName()),
+                () -> contractService.getContractsByUserEmail(auth.getName(), pageable));
     }
 
     @GetMapping("/companies/{companyId}/contracts")
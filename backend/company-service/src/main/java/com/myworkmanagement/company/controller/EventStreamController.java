@@ -0,0 +1,43 @@
+package com.myworkmanagement.company.controller;
+
+import com.myworkmanagement.company.config.JwtAuthenticationDetails;
+import com.myworkmanagement.company.service.UserEventStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Tag(name = "Events", description = "Server-Sent Events for badge updates")
+@SecurityRequirement(name = "bearerAuth")
+public class EventStreamController {
+
+    private final UserEventStreamService userEventStreamService;
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to events",
+            description = "Opens a Server-Sent Events stream with 'unread-notes' and 'reminders' events for the authenticated user")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "503", description = "Too many open streams")
+    })
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public SseEmitter subscribe() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        JwtAuthenticationDetails token = authentication.getDetails() instanceof JwtAuthenticationDetails details ? details : null;
+        return userEventStreamService.subscribe(authentication.getName(), token);
+    }
+}
@@ -1,6 +1,7 @@
 package com.myworkmanagement.company.controller;
 
 import com.myworkmanagement.company.dto.ProjectDTO;
+import com.myworkmanagement.company.service.DataVersionService;
 import com.myworkmanagement.company.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,6 +21,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api")
@@ -29,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final DataVersionService dataVersionService;
 
     @GetMapping("/companies/{companyId}/projects")
     @Operation(summary = "Get all projects for a company", description = "Retrieves a paginated list of projects for a specific company")
@@ -49,15 +52,19 @@ public class ProjectController {
     @Operation(summary = "Get all projects for the authenticated user", description = "Retrieves a paginated list of all projects for the currently logged-in user")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved projects"),
+        @ApiResponse(responseCode = "304", description = "Projects unchanged since the ETag in If-None-Match"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     public ResponseEntity<Page<ProjectDTO>> getAllProjectsForUser(
-            @Parameter(description = "Pagination parameters (page, size, sort)", required = false) Pageable pageable) {
+            @Parameter(description = "Pagination parameters (page, size, sort)", required = false) Pageable pageable,
+            WebRequest webRequest) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = authentication.getName();
-        return ResponseEntity.ok(projectService.getAllProjectsByUserEmail(userEmail, pageable));
+        return dataVersionService.conditionalGet(webRequest,
+                () -> dataVersionService.projectsETag(userEmail),
+                () -> projectService.getAllProjectsByUserEmail(userEmail, pageable));
     }
 
     @GetMapping("/companies/{companyId}/projects/{projectId}")
@@ -1,6 +1,7 @@
 package com.myworkmanagement.company.controller;
 
 import com.myworkmanagement.company.dto.ProjectCostDTO;
+import com.myworkmanagement.company.service.DataVersionService;
 import com.myworkmanagement.company.service.ProjectCostService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +17,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.Authentication;
 
@@ -28,19 +30,23 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 public class ProjectCostController {
     private final ProjectCostService projectCostService;
+    private final DataVersionService dataVersionService;
 
     @GetMapping("/costs")
     @Operation(summary = "Get project costs by month", description = "Retrieves the total cost (hour_rate * hours_worked) for each project grouped by month")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved project costs"),
+        @ApiResponse(responseCode = "304", description = "Costs unchanged since the ETag in If-None-Match"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<List<ProjectCostDTO>> getProjectCosts() {
+    public ResponseEntity<List<ProjectCostDTO>> getProjectCosts(WebRequest webRequest) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = authentication.getName();
 
-        return ResponseEntity.ok(projectCostService.getProjectCostsByMonth(userEmail));
+        return dataVersionService.conditionalGet(webRequest,
+                () -> dataVersionService.projectCostsETag(userEmail),
+                () -> projectCostService.getProjectCostsByMonth(userEmail));
     }
 } 
\ No newline at end of file
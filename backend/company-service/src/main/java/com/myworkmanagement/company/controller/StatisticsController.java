@@ -1,6 +1,7 @@
 package com.myworkmanagement.company.controller;
 
 import com.myworkmanagement.company.dto.CompanyProjectStatsDTO;
+import com.myworkmanagement.company.service.DataVersionService;
 import com.myworkmanagement.company.service.StatisticsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,6 +16,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -27,18 +29,22 @@ import java.util.List;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final DataVersionService dataVersionService;
 
     @GetMapping("/company-project-stats")
     @Operation(summary = "Get company project statistics", description = "Retrieves statistics about projects and tasks for all companies of the authenticated user")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved statistics",
             content = @Content(schema = @Schema(implementation = CompanyProjectStatsDTO.class))),
+        @ApiResponse(responseCode = "304", description = "Statistics unchanged since the ETag in If-None-Match"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<CompanyProjectStatsDTO>> getCompanyProjectStats() {
+    public ResponseEntity<List<CompanyProjectStatsDTO>> getCompanyProjectStats(WebRequest webRequest) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = authentication.getName();
-        return ResponseEntity.ok(statisticsService.getCompanyProjectStats(userEmail));
+        return dataVersionService.conditionalGet(webRequest,
+                () -> dataVersionService.companyProjectStatsETag(userEmail),
+                () -> statisticsService.getCompanyProjectStats(userEmail));
     }
 } 
\ No newline at end of file
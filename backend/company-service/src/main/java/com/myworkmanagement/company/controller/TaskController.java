@@ -1,14 +1,15 @@
 package com.myworkmanagement.company.controller;
 
-import com.myworkmanagement.company.dto.TaskContractUsageDTO;
+import com.myworkmanagement.company.dto.SalContractAllocationDTO;
+import com.myworkmanagement.company.dto.SalPreviewDTO;
 import com.myworkmanagement.company.dto.TaskDTO;
 import com.myworkmanagement.company.dto.TaskBillingStatusUpdateDTO;
 import com.myworkmanagement.company.dto.TaskPaymentStatusUpdateDTO;
 import com.myworkmanagement.company.entity.Company;
 import com.myworkmanagement.company.entity.Project;
 import com.myworkmanagement.company.entity.Task;
-import com.myworkmanagement.company.entity.TaskContractUsage;
 import com.myworkmanagement.company.exception.ResourceNotFoundException;
+import com.myworkmanagement.company.entity.TaskContractUsage;
 import com.myworkmanagement.company.entity.Contract;
 import com.myworkmanagement.company.entity.ContractStatus;
 import com.myworkmanagement.company.repository.CompanyRepository;
@@ -16,6 +17,9 @@ import com.myworkmanagement.company.repository.ContractRepository;
 import com.myworkmanagement.company.repository.ProjectRepository;
 import com.myworkmanagement.company.repository.TaskContractUsageRepository;
 import com.myworkmanagement.company.repository.TaskRepository;
+import com.myworkmanagement.company.service.DataVersionService;
+import com.myworkmanagement.company.service.SalAllocationService;
+import com.myworkmanagement.company.service.SalBatchService;
 import com.myworkmanagement.company.service.SalPdfService;
 import com.myworkmanagement.company.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,12 +29,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -39,13 +45,13 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.zip.ZipEntry;
@@ -60,7 +66,10 @@ import java.util.zip.ZipOutputStream;
 public class TaskController {
 
     private final TaskService taskService;
+    private final DataVersionService dataVersionService;
     private final SalPdfService salPdfService;
+    private final SalAllocationService salAllocationService;
+    private final SalBatchService salBatchService;
     private final CompanyRepository companyRepository;
     private final ContractRepository contractRepository;
     private final TaskRepository taskRepository;
@@ -123,6 +132,7 @@ public class TaskController {
     @Operation(summary = "Get all tasks for the authenticated user", description = "Retrieves a paginated list of all tasks for the currently logged-in user")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved tasks"),
+        @ApiResponse(responseCode = "304", description = "Tasks unchanged since the ETag in If-None-Match"),
         @ApiResponse(responseCode = "401", description = "Unauthorized"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
@@ -133,10 +143,13 @@ public class TaskController {
             @Parameter(description = "Filter by project ID", required = false) @RequestParam(required = false) Long projectId,
             @Parameter(description = "Filter by billing status (true=billed, false=unbilled)", required = false) @RequestParam(required = false) Boolean isBilled,
             @Parameter(description = "Filter by payment status (true=paid, false=unpaid)", required = false) @RequestParam(required = false) Boolean isPaid,
-            @Parameter(description = "Filter by task type (EVOLUTIVA, CORRETTIVA)", required = false) @RequestParam(required = false) String type) {
+            @Parameter(description = "Filter by task type (EVOLUTIVA, CORRETTIVA)", required = false) @RequestParam(required = false) String type,
+            WebRequest webRequest) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = authentication.getName();
-        return ResponseEntity.ok(taskService.getTasksByUserEmail(userEmail, pageable, search, projectId, isBilled, isPaid, type));
+        return dataVersionService.conditionalGet(webRequest,
+                () -> dataVersionService.tasksETag(userEmail),
+                () -> taskService.getTasksByUserEmail(userEmail, pageable, search, projectId, isBilled, isPaid, type));
     }
 
     @GetMapping("/projects/{projectId}/tasks")
@@ -403,43 +416,8 @@ public class TaskController {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             String userEmail = authentication.getName();
             
-            LocalDate startDate = LocalDate.of(year, month, 1);
-            LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-            LocalDate reportMonth = startDate;
-            
-            Company dedagroupCompany = companyRepository.findByName("Dedagroup")
-                .orElseThrow(() -> new ResourceNotFoundException("Company 'Dedagroup' not found"));
-            
-            List<TaskDTO> tasks;
-            if (taskIds != null && !taskIds.isEmpty()) {
-                List<Task> selectedTasks = taskRepository.findAllById(taskIds);
-                tasks = selectedTasks.stream()
-                    .filter(t -> t.getUserEmail().equals(userEmail))
-                    .map(this::convertTaskToDTO)
-                    .collect(java.util.stream.Collectors.toList());
-            } else if (projectId != null) {
-                Project project = projectRepository.findById(projectId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
-                
-                if (!dedagroupCompany.getId().equals(project.getCompany().getId())) {
-                    throw new IllegalArgumentException("Project does not belong to Dedagroup company");
-                }
-                
-                List<Task> projectTasks = taskRepository.findByProjectIdAndStartDateBetween(
-                    projectId, startDate, endDate, 
-                    org.springframework.data.domain.PageRequest.of(0, Integer.MAX_VALUE)).getContent();
-                
-                tasks = projectTasks.stream()
-                    .map(this::convertTaskToDTO)
-                    .collect(java.util.stream.Collectors.toList());
-            } else {
-                List<Task> dedagroupTasks = taskRepository.findByUserEmailAndCompanyIdAndDateRange(
-                    userEmail, dedagroupCompany.getId(), startDate, endDate);
-                
-                tasks = dedagroupTasks.stream()
-                    .map(this::convertTaskToDTO)
-                    .collect(java.util.stream.Collectors.toList());
-            }
+            LocalDate reportMonth = LocalDate.of(year, month, 1);
+            List<TaskDTO> tasks = resolveSalTasks(userEmail, year, month, projectId, taskIds);
 
             if (tasks.isEmpty()) {
                 return ResponseEntity.badRequest().build();
@@ -504,184 +482,196 @@ public class TaskController {
         }
     }
 
-    /**
-     * Allocates tasks across OPEN contracts for the project.
-     * Tasks are processed in order. When a contract's budget is exhausted, the
-     * overflowing task is split: the portion that fits stays with the current contract,
-     * and the remainder moves to the next OPEN contract.
-     * Returns a map of Contract -> task list (preserving contract order).
-     * If no contracts exist, returns a single entry with null key and all tasks uncapped.
-     */
-    private Map<Contract, List<TaskDTO>> allocateTasksToContracts(List<TaskDTO> tasks, Long contractId) {
-        Map<Contract, List<TaskDTO>> allocations = new LinkedHashMap<>();
+    @GetMapping("/tasks/sal/batch")
+    @Operation(summary = "Generate SAL PDFs for several months and projects", description = "Generates the SAL documents of every month in the date range for the given Dedagroup projects (all of them if omitted), carrying contract balances forward month by month, and streams them back as one ZIP")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "ZIP generated successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range or no tasks in range"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "404", description = "Project not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public void generateSalBatch(
+            @Parameter(description = "Start date of the range (YYYY-MM-DD)", required = true, example = "2025-01-01") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date of the range (YYYY-MM-DD)", required = true, example = "2025-03-31") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Project IDs to include (optional, all Dedagroup projects if omitted)", required = false) @RequestParam(required = false) List<Long> projectIds,
+            @Parameter(description = "User name for the documents", required = false) @RequestParam(required = false) String userName,
+            @Parameter(description = "User address for the documents", required = false) @RequestParam(required = false) String userAddress,
+            @Parameter(description = "User phone for the documents", required = false) @RequestParam(required = false) String userPhone,
+            @Parameter(description = "User email for the documents", required = false) @RequestParam(required = false) String userEmailAddress,
+            HttpServletResponse response) throws IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = authentication.getName();
 
-        List<Contract> openContracts;
-        if (contractId != null) {
-            Contract c = contractRepository.findById(contractId).orElse(null);
-            openContracts = c != null ? List.of(c) : List.of();
-        } else {
-            Long taskProjectId = tasks.get(0).getProjectId();
-            openContracts = contractRepository.findByProjectIdAndStatus(
-                taskProjectId, ContractStatus.OPEN);
+        if (endDate.isBefore(startDate)) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "End date must not be before start date");
+            return;
         }
 
-        if (openContracts.isEmpty()) {
-            allocations.put(null, tasks);
-            return allocations;
+        List<SalBatchService.SalBatchEntry> entries = salBatchService.prepareBatch(userEmail, startDate, endDate, projectIds);
+        if (entries.isEmpty()) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "No tasks found in the given range");
+            return;
         }
 
-        List<TaskDTO> remainingTasks = new ArrayList<>(tasks);
-
-        for (Contract contract : openContracts) {
-            if (remainingTasks.isEmpty()) break;
-
-            BigDecimal availableAmount = contract.getAmountAvailable();
-            if (availableAmount == null || availableAmount.compareTo(BigDecimal.ZERO) <= 0) continue;
-
-            List<TaskDTO> contractTasks = new ArrayList<>();
-            List<TaskDTO> nextRemaining = new ArrayList<>();
-            BigDecimal runningTotal = BigDecimal.ZERO;
-            boolean budgetExhausted = false;
-
-            for (TaskDTO task : remainingTasks) {
-                if (budgetExhausted) {
-                    nextRemaining.add(task);
-                    continue;
-                }
-
-                BigDecimal hours = task.getHoursWorked() != null ? task.getHoursWorked() : BigDecimal.ZERO;
-                BigDecimal rate = task.getRateUsed() != null ? task.getRateUsed() : BigDecimal.ZERO;
-                BigDecimal taskCost = hours.multiply(rate);
-                BigDecimal newTotal = runningTotal.add(taskCost);
-
-                if (newTotal.compareTo(availableAmount) <= 0) {
-                    contractTasks.add(task);
-                    runningTotal = newTotal;
-                } else {
-                    BigDecimal remaining = availableAmount.subtract(runningTotal);
-                    if (remaining.compareTo(BigDecimal.ZERO) > 0 && rate.compareTo(BigDecimal.ZERO) > 0) {
-                        BigDecimal adjustedHours = remaining.divide(rate, 2, RoundingMode.HALF_UP);
-                        contractTasks.add(copyTaskWithAdjustedHours(task, adjustedHours, remaining));
-
-                        BigDecimal spillHours = hours.subtract(adjustedHours);
-                        if (spillHours.compareTo(BigDecimal.ZERO) > 0) {
-                            BigDecimal spillAmount = taskCost.subtract(remaining);
-                            nextRemaining.add(copyTaskWithAdjustedHours(task, spillHours, spillAmount));
-                        }
-                    } else {
-                        nextRemaining.add(task);
-                    }
-                    budgetExhausted = true;
-                }
-            }
+        if (userName == null || userName.isEmpty()) {
+            userName = userEmail.split("@")[0];
+        }
+        if (userEmailAddress == null || userEmailAddress.isEmpty()) {
+            userEmailAddress = userEmail;
+        }
 
-            if (!contractTasks.isEmpty()) {
-                allocations.put(contract, contractTasks);
-            }
-            remainingTasks = nextRemaining;
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename(String.format("SAL_%s_%s.zip", startDate, endDate))
+            .build().toString());
+
+        salBatchService.writeBatchZip(entries,
+            new SalBatchService.SalDocumentInfo(userEmail, userName, userAddress, userPhone, userEmailAddress),
+            response.getOutputStream());
+    }
+
+    @GetMapping("/tasks/sal/preview")
+    @Operation(summary = "Preview SAL contract allocation", description = "Returns how the selected tasks would be split across contracts in the SAL, without rendering the PDF")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Preview computed successfully"),
+        @ApiResponse(responseCode = "400", description = "No tasks match the selection"),
+        @ApiResponse(responseCode = "401", description = "Unauthorized"),
+        @ApiResponse(responseCode = "404", description = "Project not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<SalPreviewDTO> previewSal(
+            @Parameter(description = "Year for the report", required = true, example = "2025") @RequestParam Integer year,
+            @Parameter(description = "Month for the report (1-12)", required = true, example = "11") @RequestParam Integer month,
+            @Parameter(description = "Project ID to filter tasks (optional)", required = false) @RequestParam(required = false) Long projectId,
+            @Parameter(description = "Specific task IDs to include (optional, if omitted all matching tasks are included)", required = false) @RequestParam(required = false) List<Long> taskIds,
+            @Parameter(description = "Contract ID to cap SAL amounts (optional, auto-detects OPEN contracts if omitted)", required = false) @RequestParam(required = false) Long contractId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = authentication.getName();
+
+        List<TaskDTO> tasks = resolveSalTasks(userEmail, year, month, projectId, taskIds);
+        if (tasks.isEmpty()) {
+            return ResponseEntity.badRequest().build();
         }
 
-        if (!remainingTasks.isEmpty() && !allocations.isEmpty()) {
-            Contract lastContract = null;
-            for (Contract c : allocations.keySet()) lastContract = c;
-            allocations.get(lastContract).addAll(remainingTasks);
-        } else if (!remainingTasks.isEmpty()) {
-            allocations.put(null, remainingTasks);
+        Map<Contract, List<TaskDTO>> allocations = allocateTasksToContracts(tasks, contractId);
+
+        List<SalContractAllocationDTO> allocationDTOs = new ArrayList<>();
+        BigDecimal totalHours = BigDecimal.ZERO;
+        BigDecimal totalBillableAmount = BigDecimal.ZERO;
+
+        for (Map.Entry<Contract, List<TaskDTO>> entry : allocations.entrySet()) {
+            Contract contract = entry.getKey();
+            List<TaskDTO> salTasks = entry.getValue();
+
+            BigDecimal contractHours = BigDecimal.ZERO;
+            BigDecimal contractAmount = BigDecimal.ZERO;
+            for (TaskDTO task : salTasks) {
+                // Expose the amount the PDF would print for every slice, not only for split tasks
+                task.setBillableAmount(resolveBillableAmount(task));
+                contractHours = contractHours.add(task.getHoursWorked() != null ? task.getHoursWorked() : BigDecimal.ZERO);
+                contractAmount = contractAmount.add(task.getBillableAmount());
+            }
+
+            allocationDTOs.add(SalContractAllocationDTO.builder()
+                .contractId(contract != null ? contract.getId() : null)
+                .contractCode(contract != null ? contract.getCode() : null)
+                .amountAvailable(contract != null ? contract.getAmountAvailable() : null)
+                .tasks(salTasks)
+                .totalHours(contractHours)
+                .totalBillableAmount(contractAmount)
+                .remainingAfterSal(computeRemainingAfterSal(contract, salTasks))
+                .build());
+
+            totalHours = totalHours.add(contractHours);
+            totalBillableAmount = totalBillableAmount.add(contractAmount);
         }
 
-        return allocations;
+        return ResponseEntity.ok(SalPreviewDTO.builder()
+            .year(year)
+            .month(month)
+            .allocations(allocationDTOs)
+            .totalHours(totalHours)
+            .totalBillableAmount(totalBillableAmount)
+            .build());
     }
 
-    private BigDecimal computeRemainingAfterSal(Contract contract, List<TaskDTO> salTasks) {
-        if (contract == null) return null;
-        BigDecimal salTotal = BigDecimal.ZERO;
-        for (TaskDTO t : salTasks) {
-            salTotal = salTotal.add(resolveBillableAmount(t));
+    /**
+     * Resolves the tasks that make up a SAL: explicit task IDs, all tasks of a Dedagroup project
+     * for the month, or all of the user's Dedagroup tasks for the month.
+     */
+    private List<TaskDTO> resolveSalTasks(String userEmail, Integer year, Integer month,
+                                          Long projectId, List<Long> taskIds) {
+        LocalDate startDate = LocalDate.of(year, month, 1);
+        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+
+        Company dedagroupCompany = companyRepository.findByName("Dedagroup")
+            .orElseThrow(() -> new ResourceNotFoundException("Company 'Dedagroup' not found"));
+        
+        List<Task> tasks;
+        if (taskIds != null && !taskIds.isEmpty()) {
+            tasks = taskRepository.findAllById(taskIds).stream()
+                .filter(t -> t.getUserEmail().equals(userEmail))
+                .collect(java.util.stream.Collectors.toList());
+        } else if (projectId != null) {
+            Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+            
+            if (!dedagroupCompany.getId().equals(project.getCompany().getId())) {
+                throw new IllegalArgumentException("Project does not belong to Dedagroup company");
+            }
+            
+            // Scoped to the caller like the batch SAL download, which uses the same query
+            tasks = taskRepository.findByUserEmailAndProjectIdsAndDateRange(
+                userEmail, List.of(projectId), startDate, endDate);
+        } else {
+            tasks = taskRepository.findByUserEmailAndCompanyIdAndDateRange(
+                userEmail, dedagroupCompany.getId(), startDate, endDate);
         }
-        BigDecimal remaining = contract.getAmountAvailable().subtract(salTotal);
-        return remaining.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : remaining;
+
+        return convertTasksToDTOs(tasks);
     }
 
-    private BigDecimal resolveBillableAmount(TaskDTO task) {
-        if (task.getBillableAmount() != null) {
-            return task.getBillableAmount();
+    /**
+     * Allocates tasks across OPEN contracts for the project, or across the given contract only.
+     * See {@link SalAllocationService#allocateTasksToContracts(List, List)}.
+     */
+    private Map<Contract, List<TaskDTO>> allocateTasksToContracts(List<TaskDTO> tasks, Long contractId) {
+        List<Contract> openContracts;
+        if (contractId != null) {
+            Contract c = contractRepository.findById(contractId).orElse(null);
+            openContracts = c != null ? List.of(c) : List.of();
+        } else {
+            Long taskProjectId = tasks.get(0).getProjectId();
+            openContracts = contractRepository.findByProjectIdAndStatus(
+                taskProjectId, ContractStatus.OPEN);
         }
-        BigDecimal h = task.getHoursWorked() != null ? task.getHoursWorked() : BigDecimal.ZERO;
-        BigDecimal r = task.getRateUsed() != null ? task.getRateUsed() : BigDecimal.ZERO;
-        return h.multiply(r);
+        return salAllocationService.allocateTasksToContracts(tasks, openContracts);
     }
 
-    private TaskDTO copyTaskWithAdjustedHours(TaskDTO task, BigDecimal adjustedHours, BigDecimal billableAmount) {
-        return TaskDTO.builder()
-            .id(task.getId())
-            .projectId(task.getProjectId())
-            .projectName(task.getProjectName())
-            .companyName(task.getCompanyName())
-            .title(task.getTitle())
-            .description(task.getDescription())
-            .ticketId(task.getTicketId())
-            .startDate(task.getStartDate())
-            .endDate(task.getEndDate())
-            .hoursWorked(adjustedHours)
-            .billableAmount(billableAmount)
-            .rateUsed(task.getRateUsed())
-            .type(task.getType())
-            .currency(task.getCurrency())
-            .isBilled(task.getIsBilled())
-            .isPaid(task.getIsPaid())
-            .billingDate(task.getBillingDate())
-            .paymentDate(task.getPaymentDate())
-            .invoiceId(task.getInvoiceId())
-            .referencedTaskId(task.getReferencedTaskId())
-            .clientId(task.getClientId())
-            .clientName(task.getClientName())
-            .notes(task.getNotes())
-            .userEmail(task.getUserEmail())
-            .createdAt(task.getCreatedAt())
-            .updatedAt(task.getUpdatedAt())
-            .contractUsages(task.getContractUsages())
-            .build();
+    private BigDecimal computeRemainingAfterSal(Contract contract, List<TaskDTO> salTasks) {
+        return salAllocationService.computeRemainingAfterSal(contract, salTasks);
     }
 
-    private TaskDTO convertTaskToDTO(Task task) {
-        List<TaskContractUsage> usages = taskContractUsageRepository.findByTaskId(task.getId());
-        List<TaskContractUsageDTO> usageDTOs = usages != null && !usages.isEmpty()
-                ? usages.stream()
-                    .map(u -> TaskContractUsageDTO.builder()
-                            .contractId(u.getContract().getId())
-                            .contractCode(u.getContractCode())
-                            .amountUsed(u.getAmountUsed())
-                            .build())
-                    .collect(java.util.stream.Collectors.toList())
-                : null;
-
-        return TaskDTO.builder()
-                .id(task.getId())
-                .projectId(task.getProject().getId())
-                .projectName(task.getProject().getName())
-                .companyName(task.getProject().getCompany().getName())
-                .title(task.getTitle())
-                .description(task.getDescription())
-                .ticketId(task.getTicketId())
-                .startDate(task.getStartDate())
-                .endDate(task.getEndDate())
-                .hoursWorked(task.getHoursWorked())
-                .rateUsed(task.getRateUsed())
-                .type(task.getType())
-                .currency(task.getCurrency())
-                .isBilled(task.getIsBilled())
-                .isPaid(task.getIsPaid())
-                .billingDate(task.getBillingDate())
-                .paymentDate(task.getPaymentDate())
-                .invoiceId(task.getInvoiceId())
-                .referencedTaskId(task.getReferencedTaskId())
-                .clientId(task.getClient() != null ? task.getClient().getId() : null)
-                .clientName(task.getClient() != null ? task.getClient().getName() : null)
-                .notes(task.getNotes())
-                .userEmail(task.getUserEmail())
-                .createdAt(task.getCreatedAt())
-                .updatedAt(task.getUpdatedAt())
-                .contractUsages(usageDTOs)
-                .build();
+    private BigDecimal resolveBillableAmount(TaskDTO task) {
+        return salAllocationService.resolveBillableAmount(task);
+    }
+
+    /**
+     * Converts the tasks with the contract usages of all of them loaded by one query.
+     */
+    private List<TaskDTO> convertTasksToDTOs(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, List<TaskContractUsage>> usagesByTaskId = taskContractUsageRepository
+            .findByTaskIdIn(tasks.stream().map(Task::getId).collect(java.util.stream.Collectors.toList()))
+            .stream()
+            .collect(java.util.stream.Collectors.groupingBy(u -> u.getTask().getId()));
+        return tasks.stream()
+            .map(task -> salAllocationService.convertTaskToDTO(task, usagesByTaskId.get(task.getId())))
+            .collect(java.util.stream.Collectors.toList());
     }
 } 
\ No newline at end of file
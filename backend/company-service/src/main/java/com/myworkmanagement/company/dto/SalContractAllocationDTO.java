@@ -0,0 +1,39 @@
+package com.myworkmanagement.company.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Slice of a SAL allocated to a single contract")
+public class SalContractAllocationDTO {
+
+    @Schema(description = "ID of the contract, null when the tasks are not capped by any contract", example = "1")
+    private Long contractId;
+
+    @Schema(description = "Code of the contract, null when the tasks are not capped by any contract", example = "CTR-2026-001")
+    private String contractCode;
+
+    @Schema(description = "Amount available on the contract before this SAL", example = "5000.00")
+    private BigDecimal amountAvailable;
+
+    @Schema(description = "Tasks allocated to the contract, with hours and billable amount adjusted when a task is split")
+    private List<TaskDTO> tasks;
+
+    @Schema(description = "Total (adjusted) hours allocated to the contract", example = "40.00")
+    private BigDecimal totalHours;
+
+    @Schema(description = "Total billable amount allocated to the contract", example = "2000.00")
+    private BigDecimal totalBillableAmount;
+
+    @Schema(description = "Residual amount on the contract after this SAL, null when there is no contract", example = "3000.00")
+    private BigDecimal remainingAfterSal;
+}
@@ -0,0 +1,33 @@
+package com.myworkmanagement.company.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Preview of how a month's tasks are split across contracts in the SAL")
+public class SalPreviewDTO {
+
+    @Schema(description = "Year of the report", example = "2025")
+    private Integer year;
+
+    @Schema(description = "Month of the report (1-12)", example = "11")
+    private Integer month;
+
+    @Schema(description = "Per-contract allocations, in the order the SAL documents are generated")
+    private List<SalContractAllocationDTO> allocations;
+
+    @Schema(description = "Total hours across all allocations", example = "40.00")
+    private BigDecimal totalHours;
+
+    @Schema(description = "Total billable amount across all allocations", example = "2000.00")
+    private BigDecimal totalBillableAmount;
+}
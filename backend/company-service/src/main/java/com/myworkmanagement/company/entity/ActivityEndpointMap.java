@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "activity_endpoint_map")
+@EntityListeners(ActivityEndpointMapListener.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,40 @@
+package com.myworkmanagement.company.entity;
+
+import com.myworkmanagement.company.service.ActivityRouteIndex;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidates the preflight route index after an endpoint mapping is saved or deleted.
+ * The index is looked up lazily because entity listeners are created together with the EntityManagerFactory.
+ */
+@Component
+public class ActivityEndpointMapListener {
+
+    private final ObjectProvider<ActivityRouteIndex> activityRouteIndex;
+
+    public ActivityEndpointMapListener(ObjectProvider<ActivityRouteIndex> activityRouteIndex) {
+        this.activityRouteIndex = activityRouteIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onMappingChanged(ActivityEndpointMap mapping) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    activityRouteIndex.ifAvailable(ActivityRouteIndex::invalidate);
+                }
+            });
+        } else {
+            activityRouteIndex.ifAvailable(ActivityRouteIndex::invalidate);
+        }
+    }
+}
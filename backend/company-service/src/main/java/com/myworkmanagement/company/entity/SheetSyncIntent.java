@@ -0,0 +1,50 @@
+package com.myworkmanagement.company.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "sheet_sync_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SheetSyncIntent {
+    @Id
+    // Pooled sequence instead of IDENTITY so the intents of a bulk status update are inserted in JDBC batches
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sheet_sync_outbox_id_seq")
+    @SequenceGenerator(name = "sheet_sync_outbox_id_seq", sequenceName = "sheet_sync_outbox_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "ticket_id")
+    private String ticketId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private SheetSyncOperation operation;
+
+    // JSON array with the sheet row values, null for deletes
+    @Column(name = "row_data", columnDefinition = "TEXT")
+    private String rowData;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Set once the intent has failed google.sheets.outbox.max-attempts times; it is kept but no longer sent
+    @Column(name = "dead_lettered_at")
+    private LocalDateTime deadLetteredAt;
+}
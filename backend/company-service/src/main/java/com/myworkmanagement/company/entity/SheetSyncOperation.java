@@ -0,0 +1,7 @@
+package com.myworkmanagement.company.entity;
+
+public enum SheetSyncOperation {
+    ADD,
+    UPDATE,
+    DELETE
+}
@@ -48,7 +48,7 @@ public class Task {
     @Column(name = "rate_used", precision = 10, scale = 2)
     private BigDecimal rateUsed;
 
-    @Column(name = "type", length = 6)
+    @Column(name = "type", length = 10)
     private String type;
 
     @Column(length = 3)
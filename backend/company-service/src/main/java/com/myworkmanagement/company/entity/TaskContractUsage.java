@@ -18,7 +18,9 @@ import java.math.BigDecimal;
 public class TaskContractUsage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence instead of IDENTITY so the usages of a bulk billing update are inserted in JDBC batches
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_contract_usages_id_seq")
+    @SequenceGenerator(name = "task_contract_usages_id_seq", sequenceName = "task_contract_usages_id_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
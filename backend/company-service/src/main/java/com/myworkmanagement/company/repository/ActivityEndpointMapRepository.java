@@ -11,6 +11,10 @@ import java.util.List;
 public interface ActivityEndpointMapRepository extends JpaRepository<ActivityEndpointMap, Long> {
     List<ActivityEndpointMap> findByHttpMethodIgnoreCaseAndEnabledTrue(String httpMethod);
 
+    List<ActivityEndpointMap> findByEnabledTrueOrderByIdAsc();
+
+    boolean existsByActivityNameAndEnabledTrue(String activityName);
+
     @Query("select distinct a.activityName from ActivityEndpointMap a where a.enabled = true order by a.activityName asc")
     List<String> findDistinctEnabledActivityNames();
 }
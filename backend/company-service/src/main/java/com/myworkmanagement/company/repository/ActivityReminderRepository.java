@@ -6,6 +6,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,4 +22,11 @@ public interface ActivityReminderRepository extends JpaRepository<ActivityRemind
             String userEmail,
             String activityName
     );
+
+    Optional<ActivityReminder> findFirstByUserEmailAndActiveTrueAndActivityNameInOrderByCreationDateAscIdAsc(
+            String userEmail,
+            Collection<String> activityNames
+    );
+
+    List<ActivityReminder> findByUserEmailAndActiveTrueOrderByCreationDateAscIdAsc(String userEmail, Pageable pageable);
 }
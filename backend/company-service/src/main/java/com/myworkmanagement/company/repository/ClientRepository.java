@@ -1,7 +1,12 @@
 package com.myworkmanagement.company.repository;
 
 import com.myworkmanagement.company.entity.Client;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,9 +15,15 @@ import java.util.Optional;
 @Repository
 public interface ClientRepository extends JpaRepository<Client, Long> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Client> findByProjectId(Long projectId);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Client> findByIdAndProjectId(Long id, Long projectId);
     
     boolean existsByProjectIdAndName(Long projectId, String name);
+
+    // Version of the client data behind the conditional GETs
+    @Query("SELECT new com.myworkmanagement.company.repository.DataVersion(COUNT(c), MAX(c.updatedAt)) FROM Client c WHERE c.userEmail = :userEmail")
+    DataVersion findVersionByUserEmail(@Param("userEmail") String userEmail);
 }
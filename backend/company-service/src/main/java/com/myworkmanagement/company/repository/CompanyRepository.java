@@ -1,9 +1,14 @@
 package com.myworkmanagement.company.repository;
 
 import com.myworkmanagement.company.entity.Company;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,6 +16,8 @@ import java.util.Optional;
 @Repository
 public interface CompanyRepository extends JpaRepository<Company, Long> {
     
+    // Looked up by name on every SAL request (the Dedagroup company)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Company> findByName(String name);
     
     Optional<Company> findByEmail(String email);
@@ -24,4 +31,8 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
     boolean existsByTaxId(String taxId);
 
     Page<Company> findAllByUserEmail(String userEmail, Pageable pageable);
+
+    // Version of the company data behind the conditional GETs
+    @Query("SELECT new com.myworkmanagement.company.repository.DataVersion(COUNT(c), MAX(c.updatedAt)) FROM Company c WHERE c.userEmail = :userEmail")
+    DataVersion findVersionByUserEmail(@Param("userEmail") String userEmail);
 } 
\ No newline at end of file
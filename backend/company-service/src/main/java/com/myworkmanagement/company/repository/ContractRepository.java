@@ -2,13 +2,17 @@ package com.myworkmanagement.company.repository;
 
 import com.myworkmanagement.company.entity.Contract;
 import com.myworkmanagement.company.entity.ContractStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,11 +27,39 @@ public interface ContractRepository extends JpaRepository<Contract, Long> {
 
     List<Contract> findByStatusAndUserEmail(ContractStatus status, String userEmail);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Contract> findByCode(String code);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM Contract c JOIN c.projects p WHERE p.id = :projectId ORDER BY c.startDate ASC, c.id ASC")
     List<Contract> findByProjectId(@Param("projectId") Long projectId);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM Contract c JOIN c.projects p WHERE p.id = :projectId AND c.status = :status ORDER BY c.startDate ASC, c.id ASC")
     List<Contract> findByProjectIdAndStatus(@Param("projectId") Long projectId, @Param("status") ContractStatus status);
+
+    /**
+     * Returns (projectId, contract) pairs for all contracts with the given status linked to any of the projects,
+     * in the same per-project order as {@link #findByProjectIdAndStatus(Long, ContractStatus)}.
+     */
+    @Query("SELECT p.id, c FROM Contract c JOIN c.projects p WHERE p.id IN :projectIds AND c.status = :status ORDER BY c.startDate ASC, c.id ASC")
+    List<Object[]> findProjectContractPairsByProjectIdsAndStatus(@Param("projectIds") Collection<Long> projectIds, @Param("status") ContractStatus status);
+
+    /**
+     * Returns (projectId, contractId) pairs for all contracts linked to any of the projects,
+     * in the same per-project order as {@link #findByProjectId(Long)}.
+     */
+    @Query("SELECT p.id, c.id FROM Contract c JOIN c.projects p WHERE p.id IN :projectIds ORDER BY c.startDate ASC, c.id ASC")
+    List<Object[]> findProjectContractIdPairsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    // Version of the contract data behind the conditional GETs
+    @Query("SELECT new com.myworkmanagement.company.repository.DataVersion(COUNT(c), MAX(c.updatedAt)) FROM Contract c WHERE c.userEmail = :userEmail")
+    DataVersion findVersionByUserEmail(@Param("userEmail") String userEmail);
+
+    /**
+     * Checksum of the user's contract-project links. Linking or unlinking a project does not touch {@code updated_at}
+     * on either side, so the links are versioned separately; the product keeps a swap of two links from cancelling out.
+     */
+    @Query("SELECT COUNT(p) + COALESCE(SUM(c.id * p.id), 0) FROM Contract c JOIN c.projects p WHERE c.userEmail = :userEmail")
+    Long findProjectLinksChecksumByUserEmail(@Param("userEmail") String userEmail);
 }
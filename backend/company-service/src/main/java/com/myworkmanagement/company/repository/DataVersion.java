@@ -0,0 +1,10 @@
+package com.myworkmanagement.company.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row count and latest {@code updated_at} of a user's rows in one table. Any insert, update or delete
+ * of those rows changes one of the two, so together they identify the state of the data without reading it.
+ */
+public record DataVersion(Long count, LocalDateTime lastUpdatedAt) {
+}
@@ -1,9 +1,15 @@
 package com.myworkmanagement.company.repository;
 
 import com.myworkmanagement.company.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,11 +17,25 @@ import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+    @EntityGraph(attributePaths = "company")
     Page<Project> findByCompanyId(Long companyId, Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Project> findByCompanyIdAndId(Long companyId, Long id);
     boolean existsByCompanyIdAndName(Long companyId, String name);
+    @EntityGraph(attributePaths = "company")
     Page<Project> findAllByUserEmail(String userEmail, Pageable pageable);
     List<Project> findAllByUserEmail(String userEmail);
     Long countByCompanyId(Long companyId);
+
+    /**
+     * Company ID and currency of every project of the companies owned by the user, oldest project first.
+     */
+    @Query("SELECT p.company.id, p.currency FROM Project p WHERE p.company.userEmail = :userEmail ORDER BY p.id ASC")
+    List<Object[]> findCompanyCurrenciesByCompanyUserEmail(@Param("userEmail") String userEmail);
+    @EntityGraph(attributePaths = "company")
     Page<Project> findByCompanyIdAndNameContainingOrDescriptionContaining(Long companyId, String name, String description, Pageable pageable);
+
+    // Version of the project data behind the conditional GETs
+    @Query("SELECT new com.myworkmanagement.company.repository.DataVersion(COUNT(p), MAX(p.updatedAt)) FROM Project p WHERE p.userEmail = :userEmail")
+    DataVersion findVersionByUserEmail(@Param("userEmail") String userEmail);
 } 
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.myworkmanagement.company.repository;
+
+import com.myworkmanagement.company.entity.SheetSyncIntent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SheetSyncIntentRepository extends JpaRepository<SheetSyncIntent, Long> {
+
+    List<SheetSyncIntent> findByDeadLetteredAtIsNullOrderByIdAsc(Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SheetSyncIntent i SET i.attempts = i.attempts + 1, i.lastError = :error WHERE i.id IN :ids")
+    void recordFailedAttempt(@Param("ids") Collection<Long> ids, @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SheetSyncIntent i SET i.deadLetteredAt = CURRENT_TIMESTAMP WHERE i.id IN :ids")
+    void markDeadLettered(@Param("ids") Collection<Long> ids);
+}
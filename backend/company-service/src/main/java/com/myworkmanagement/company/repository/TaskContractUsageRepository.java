@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,6 +13,8 @@ public interface TaskContractUsageRepository extends JpaRepository<TaskContractU
 
     List<TaskContractUsage> findByTaskId(Long taskId);
 
+    List<TaskContractUsage> findByTaskIdIn(Collection<Long> taskIds);
+
     List<TaskContractUsage> findByContractId(Long contractId);
 
     @Modifying
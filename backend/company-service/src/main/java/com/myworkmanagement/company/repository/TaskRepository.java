@@ -3,33 +3,63 @@ package com.myworkmanagement.company.repository;
 import com.myworkmanagement.company.entity.Task;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
+    // Versions of the task data behind the conditional GETs, read in the same transaction as the response
+    @Query("SELECT new com.myworkmanagement.company.repository.DataVersion(COUNT(t), MAX(t.updatedAt)) FROM Task t WHERE t.userEmail = :userEmail")
+    DataVersion findVersionByUserEmail(@Param("userEmail") String userEmail);
+
+    @Query("SELECT new com.myworkmanagement.company.repository.DataVersion(COUNT(t), MAX(t.updatedAt)) FROM Task t WHERE t.project.userEmail = :userEmail")
+    DataVersion findVersionByProjectUserEmail(@Param("userEmail") String userEmail);
+
+    @Query("SELECT new com.myworkmanagement.company.repository.DataVersion(COUNT(t), MAX(t.updatedAt)) FROM Task t WHERE t.project.company.userEmail = :userEmail")
+    DataVersion findVersionByCompanyUserEmail(@Param("userEmail") String userEmail);
+
     List<Task> findByProjectId(Long projectId);
-    
+
+    boolean existsByTicketId(String ticketId);
+
+    // Task lists show the project and client names, so the pages below fetch both with the tasks
+    @EntityGraph(attributePaths = {"project", "client"})
     Page<Task> findByUserEmail(String userEmail, Pageable pageable);
     Page<Task> findByProjectId(Long projectId, Pageable pageable);
+    @EntityGraph(attributePaths = {"project", "client"})
     Page<Task> findByProjectIdAndStartDateBetween(Long projectId, LocalDate startDate, LocalDate endDate, Pageable pageable);
+    @EntityGraph(attributePaths = {"project", "client"})
     Page<Task> findByIsBilledFalse(Pageable pageable);
+    @EntityGraph(attributePaths = {"project", "client"})
     Page<Task> findByIsPaidFalse(Pageable pageable);
+    @EntityGraph(attributePaths = {"project", "client"})
     Page<Task> findByProjectIdAndIsBilledFalse(Long projectId, Pageable pageable);
+    @EntityGraph(attributePaths = {"project", "client"})
     Page<Task> findByProjectIdAndIsPaidFalse(Long projectId, Pageable pageable);
+    @EntityGraph(attributePaths = {"project", "client"})
     Page<Task> findByUserEmailAndProjectId(String userEmail, Long projectId, Pageable pageable);
+    @EntityGraph(attributePaths = {"project", "client"})
     Page<Task> findByUserEmailAndIsBilledFalse(String userEmail, Pageable pageable);
+    @EntityGraph(attributePaths = {"project", "client"})
     Page<Task> findByUserEmailAndIsPaidFalse(String userEmail, Pageable pageable);
+    @EntityGraph(attributePaths = {"project", "client"})
     Page<Task> findByUserEmailAndProjectIdAndIsBilledFalse(String userEmail, Long projectId, Pageable pageable);
+    @EntityGraph(attributePaths = {"project", "client"})
     Page<Task> findByUserEmailAndProjectIdAndIsPaidFalse(String userEmail, Long projectId, Pageable pageable);
 
+    // Bulk billing and payment updates load every task of the request at once
+    @EntityGraph(attributePaths = {"project", "client"})
+    List<Task> findByIdIn(Collection<Long> ids);
+
     // New methods for search functionality
+    @EntityGraph(attributePaths = {"project", "client"})
     @Query("SELECT t " +
     "FROM Task t " +
     "WHERE t.userEmail = :userEmail AND " +
@@ -40,6 +70,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     Page<Task> findByUserEmailAndSearch(@Param("userEmail") String userEmail, @Param("title") String title, @Param("description") String description, @Param("ticketId") String ticketId, @Param("startDate") String startDate, Pageable pageable);
     Page<Task> findByProjectIdAndTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCaseOrTicketIdContainingIgnoreCase(Long projectId, String title, String description, String ticketId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"project", "client"})
     @Query("SELECT t " +
         "FROM Task t " +
         "WHERE t.userEmail = :userEmail " +
@@ -64,20 +95,15 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
         Pageable pageable
     );
 
-    @Query("SELECT COUNT(t) FROM Task t JOIN t.project p WHERE p.company.id = :companyId")
-    Long countByCompanyId(@Param("companyId") Long companyId);
-    
-    @Query("SELECT COALESCE(SUM(t.hoursWorked), 0) FROM Task t JOIN t.project p WHERE p.company.id = :companyId")
-    Integer sumHoursByCompanyId(@Param("companyId") Long companyId);
-    
-    @Query("SELECT COALESCE(SUM(t.rateUsed * t.hoursWorked), 0) FROM Task t JOIN t.project p WHERE p.company.id = :companyId")
-    BigDecimal sumAmountByCompanyId(@Param("companyId") Long companyId);
-
-    @Query("SELECT COALESCE(SUM(t.rateUsed * t.hoursWorked), 0) FROM Task t JOIN t.project p WHERE p.company.id = :companyId AND t.isBilled = :isBilled")
-    BigDecimal sumAmountByCompanyIdAndIsBilled(@Param("companyId") Long companyId, @Param("isBilled") boolean isBilled);
-
-    @Query("SELECT COALESCE(SUM(t.rateUsed * t.hoursWorked), 0) FROM Task t JOIN t.project p WHERE p.company.id = :companyId AND t.isPaid = :isPaid")
-    BigDecimal sumAmountByCompanyIdAndIsPaid(@Param("companyId") Long companyId, @Param("isPaid") boolean isPaid);
+    /**
+     * Task totals of each company owned by the user, in one pass: company ID, task count, hours, amount,
+     * amount not billed yet and amount not paid yet.
+     */
+    @Query("SELECT p.company.id, COUNT(t), COALESCE(SUM(t.hoursWorked), 0), COALESCE(SUM(t.rateUsed * t.hoursWorked), 0), " +
+        "COALESCE(SUM(CASE WHEN t.isBilled = false THEN t.rateUsed * t.hoursWorked ELSE 0 END), 0), " +
+        "COALESCE(SUM(CASE WHEN t.isPaid = false THEN t.rateUsed * t.hoursWorked ELSE 0 END), 0) " +
+        "FROM Task t JOIN t.project p WHERE p.company.userEmail = :userEmail GROUP BY p.company.id")
+    List<Object[]> sumTotalsByCompanyUserEmail(@Param("userEmail") String userEmail);
 
     @Query("SELECT t FROM Task t JOIN t.project p WHERE t.userEmail = :userEmail AND p.company.id = :companyId AND t.startDate BETWEEN :startDate AND :endDate")
     List<Task> findByUserEmailAndCompanyIdAndDateRange(
@@ -87,4 +113,24 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
         @Param("endDate") LocalDate endDate
     );
 
+    @Query("SELECT t FROM Task t JOIN FETCH t.project p JOIN FETCH p.company LEFT JOIN FETCH t.client " +
+        "WHERE t.userEmail = :userEmail AND p.id IN :projectIds AND t.startDate BETWEEN :startDate AND :endDate " +
+        "ORDER BY t.startDate ASC, t.id ASC")
+    List<Task> findByUserEmailAndProjectIdsAndDateRange(
+        @Param("userEmail") String userEmail,
+        @Param("projectIds") Collection<Long> projectIds,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    @Query("SELECT t FROM Task t JOIN FETCH t.project p JOIN FETCH p.company LEFT JOIN FETCH t.client " +
+        "WHERE t.userEmail = :userEmail AND p.company.id = :companyId AND t.startDate BETWEEN :startDate AND :endDate " +
+        "ORDER BY t.startDate ASC, t.id ASC")
+    List<Task> findByUserEmailAndCompanyIdAndDateRangeFetchProject(
+        @Param("userEmail") String userEmail,
+        @Param("companyId") Long companyId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
 } 
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.myworkmanagement.company.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myworkmanagement.company.entity.ActivityReminder;
+import com.myworkmanagement.company.repository.ActivityReminderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Per-user cache of active reminders, indexed by activity name, used by the reminder preflight.
+ * A user's reminders are loaded with one query on first use and kept until a reminder of that user is created
+ * or completed, or until the entry expires. At most {@code max-users} users are kept, evicting the least recently
+ * used. Users with more active reminders than the configured limit are remembered as such and resolved with
+ * a single query per preflight instead.
+ * <p>
+ * Call it from a read-write transaction so that entries are loaded from the primary, not from a read replica.
+ */
+@Service
+public class ActiveReminderCache {
+
+    private final ActivityReminderRepository activityReminderRepository;
+    private final int maxRemindersPerUser;
+
+    private final Cache<String, Entry> entries;
+
+    public ActiveReminderCache(ActivityReminderRepository activityReminderRepository,
+                               @Value("${reminders.cache.ttl-seconds:300}") long ttlSeconds,
+                               @Value("${reminders.cache.max-users:10000}") int maxUsers,
+                               @Value("${reminders.cache.max-reminders-per-user:500}") int maxRemindersPerUser) {
+        this.activityReminderRepository = activityReminderRepository;
+        this.maxRemindersPerUser = maxRemindersPerUser;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    private static final class Entry {
+        // Marks a user with too many active reminders to cache
+        private static final Entry OVERSIZED = new Entry(null);
+
+        // activity name -> oldest active reminder of that activity
+        private final Map<String, ActivityReminder> oldestByActivity;
+
+        private Entry(Map<String, ActivityReminder> oldestByActivity) {
+            this.oldestByActivity = oldestByActivity;
+        }
+    }
+
+    /**
+     * Returns the oldest active reminder of the user among the given activities.
+     */
+    public Optional<ActivityReminder> findOldestActive(String userEmail, Collection<String> activityNames) {
+        if (activityNames.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Entry entry = entries.getIfPresent(userEmail);
+        if (entry == Entry.OVERSIZED) {
+            return findOldestActiveInDatabase(userEmail, activityNames);
+        }
+        if (entry == null) {
+            List<ActivityReminder> active = activityReminderRepository.findByUserEmailAndActiveTrueOrderByCreationDateAscIdAsc(
+                    userEmail, PageRequest.of(0, maxRemindersPerUser + 1));
+            if (active.size() > maxRemindersPerUser) {
+                entries.put(userEmail, Entry.OVERSIZED);
+                // The rows loaded are the oldest ones, so a match among them is the answer
+                for (ActivityReminder reminder : active) {
+                    if (activityNames.contains(reminder.getActivityName())) {
+                        return Optional.of(reminder);
+                    }
+                }
+                return findOldestActiveInDatabase(userEmail, activityNames);
+            }
+            entry = index(active);
+            entries.put(userEmail, entry);
+        }
+
+        ActivityReminder oldest = null;
+        for (String activityName : activityNames) {
+            ActivityReminder candidate = entry.oldestByActivity.get(activityName);
+            if (candidate != null && (oldest == null || isOlder(candidate, oldest))) {
+                oldest = candidate;
+            }
+        }
+        return Optional.ofNullable(oldest);
+    }
+
+    /**
+     * Drops the cached reminders of the user once the current transaction commits.
+     */
+    public void invalidate(String userEmail) {
+        entries.invalidate(userEmail);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.invalidate(userEmail);
+                }
+            });
+        }
+    }
+
+    private Optional<ActivityReminder> findOldestActiveInDatabase(String userEmail, Collection<String> activityNames) {
+        return activityReminderRepository
+                .findFirstByUserEmailAndActiveTrueAndActivityNameInOrderByCreationDateAscIdAsc(userEmail, activityNames);
+    }
+
+    private static Entry index(List<ActivityReminder> active) {
+        Map<String, ActivityReminder> oldestByActivity = new HashMap<>();
+        for (ActivityReminder reminder : active) {
+            oldestByActivity.putIfAbsent(reminder.getActivityName(), reminder);
+        }
+        return new Entry(oldestByActivity);
+    }
+
+    private static boolean isOlder(ActivityReminder a, ActivityReminder b) {
+        int byDate = a.getCreationDate().compareTo(b.getCreationDate());
+        return byDate < 0 || (byDate == 0 && a.getId() < b.getId());
+    }
+}
@@ -0,0 +1,185 @@
+package com.myworkmanagement.company.service;
+
+import com.myworkmanagement.company.entity.ActivityEndpointMap;
+import com.myworkmanagement.company.repository.ActivityEndpointMapRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory index of the enabled activity endpoint mappings, used by the reminder preflight.
+ * Patterns are compiled once into a segment trie per HTTP method: literal segments are looked up in a map,
+ * {@code {variable}} segments match any non-empty segment, and segments mixing text and variables use a
+ * precompiled pattern. The index is rebuilt when a mapping changes through JPA and periodically, to pick up
+ * mappings edited directly in the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class ActivityRouteIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityRouteIndex.class);
+
+    private final ActivityEndpointMapRepository activityEndpointMapRepository;
+
+    // HTTP method -> root of the segment trie; null until first use or after invalidation
+    private volatile Map<String, Node> roots;
+    // Guards the rebuild, which queries the database
+    private final ReentrantLock buildLock = new ReentrantLock();
+
+    /**
+     * Returns the activities whose endpoint pattern matches the request, in mapping order.
+     * The path must start with '/' and have no query string.
+     */
+    public Set<String> findActivities(String httpMethod, String path) {
+        Node root = index().get(httpMethod.toUpperCase(Locale.ROOT));
+        if (root == null) {
+            return Set.of();
+        }
+        String[] segments = path.substring(1).split("/", -1);
+        // mapping order -> activity, so results follow the same order regardless of the trie branch that matched
+        TreeMap<Integer, String> matches = new TreeMap<>();
+        collect(root, segments, 0, matches);
+        return new LinkedHashSet<>(matches.values());
+    }
+
+    /**
+     * Drops the index; the next lookup rebuilds it from the database.
+     */
+    public void invalidate() {
+        roots = null;
+    }
+
+    @Scheduled(fixedDelayString = "${reminders.route-index.refresh-interval-ms:300000}",
+            initialDelayString = "${reminders.route-index.refresh-interval-ms:300000}")
+    public void refresh() {
+        roots = build();
+    }
+
+    private Map<String, Node> index() {
+        Map<String, Node> current = roots;
+        if (current == null) {
+            buildLock.lock();
+            try {
+                current = roots;
+                if (current == null) {
+                    current = build();
+                    roots = current;
+                }
+            } finally {
+                buildLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private Map<String, Node> build() {
+        List<ActivityEndpointMap> mappings = activityEndpointMapRepository.findByEnabledTrueOrderByIdAsc();
+        Map<String, Node> built = new HashMap<>();
+        int order = 0;
+        for (ActivityEndpointMap mapping : mappings) {
+            String method = mapping.getHttpMethod().trim().toUpperCase(Locale.ROOT);
+            String pattern = mapping.getEndpointPattern();
+            if (!pattern.startsWith("/")) {
+                pattern = "/" + pattern;
+            }
+            Node node = built.computeIfAbsent(method, m -> new Node());
+            for (String segment : pattern.substring(1).split("/", -1)) {
+                node = node.child(segment);
+            }
+            node.activities.putIfAbsent(order++, mapping.getActivityName());
+        }
+        log.debug("Built activity route index from {} endpoint mappings", mappings.size());
+        return built;
+    }
+
+    private void collect(Node node, String[] segments, int depth, Map<Integer, String> matches) {
+        if (depth == segments.length) {
+            matches.putAll(node.activities);
+            return;
+        }
+        String segment = segments[depth];
+        Node literal = node.literals.get(segment);
+        if (literal != null) {
+            collect(literal, segments, depth + 1, matches);
+        }
+        if (node.variable != null && !segment.isEmpty()) {
+            collect(node.variable, segments, depth + 1, matches);
+        }
+        for (PatternChild child : node.patterns) {
+            if (child.pattern.matcher(segment).matches()) {
+                collect(child.node, segments, depth + 1, matches);
+            }
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final List<PatternChild> patterns = new ArrayList<>();
+        private final Map<Integer, String> activities = new TreeMap<>();
+        private Node variable;
+
+        private Node child(String segment) {
+            int openBrace = segment.indexOf('{');
+            int closeBrace = openBrace >= 0 ? segment.indexOf('}', openBrace) : -1;
+            if (closeBrace < 0) {
+                return literals.computeIfAbsent(segment, s -> new Node());
+            }
+            if (openBrace == 0 && closeBrace == segment.length() - 1) {
+                if (variable == null) {
+                    variable = new Node();
+                }
+                return variable;
+            }
+            String regex = segmentRegex(segment);
+            for (PatternChild child : patterns) {
+                if (child.pattern.pattern().equals(regex)) {
+                    return child.node;
+                }
+            }
+            PatternChild child = new PatternChild(Pattern.compile(regex), new Node());
+            patterns.add(child);
+            return child.node;
+        }
+
+        // Same rules as the original matcher: each {variable} matches one or more characters other than '/'
+        private static String segmentRegex(String segment) {
+            StringBuilder regex = new StringBuilder();
+            int segmentStart = 0;
+            int openBrace;
+            while ((openBrace = segment.indexOf('{', segmentStart)) >= 0) {
+                int closeBrace = segment.indexOf('}', openBrace);
+                if (closeBrace < 0) {
+                    break;
+                }
+                regex.append(Pattern.quote(segment.substring(segmentStart, openBrace)));
+                regex.append("[^/]+");
+                segmentStart = closeBrace + 1;
+            }
+            regex.append(Pattern.quote(segment.substring(segmentStart)));
+            return regex.toString();
+        }
+    }
+
+    private static final class PatternChild {
+        private final Pattern pattern;
+        private final Node node;
+
+        private PatternChild(Pattern pattern, Node node) {
+            this.pattern = pattern;
+            this.node = node;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.myworkmanagement.company.service;
+
+import com.myworkmanagement.company.repository.ClientRepository;
+import com.myworkmanagement.company.repository.CompanyRepository;
+import com.myworkmanagement.company.repository.ContractRepository;
+import com.myworkmanagement.company.repository.DataVersion;
+import com.myworkmanagement.company.repository.ProjectRepository;
+import com.myworkmanagement.company.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Weak ETags for the list and statistics endpoints the frontend polls. Each tag is derived from the row count and
+ * latest {@code updated_at} of every table that feeds the response, scoped to the user, so it changes whenever the
+ * response could and is computed without running the response query. Filters and paging are not part of the tag:
+ * any change to the user's data invalidates every page, which is conservative but never stale.
+ * <p>
+ * Endpoints answer through {@link #conditionalGet}, which reads the tag and the body in one read-only transaction
+ * and so from one database. While the replica lags both are equally old; a tag is never paired with an older body.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DataVersionService {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final CompanyRepository companyRepository;
+    private final ClientRepository clientRepository;
+    private final ContractRepository contractRepository;
+
+    /**
+     * Answers a conditional GET: {@code null} once the request's If-None-Match matches the tag (the 304 is already
+     * set on the request), otherwise the body with its tag. The tag is read first, so the body is never older than it.
+     */
+    public <T> ResponseEntity<T> conditionalGet(WebRequest webRequest, Supplier<String> eTag, Supplier<T> body) {
+        String tag = eTag.get();
+        if (webRequest.checkNotModified(tag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(tag)
+                .body(body.get());
+    }
+
+    /**
+     * Task pages show the project, company and client names next to each task.
+     */
+    public String tasksETag(String userEmail) {
+        return eTag("tasks", userEmail,
+                format(taskRepository.findVersionByUserEmail(userEmail)),
+                format(projectRepository.findVersionByUserEmail(userEmail)),
+                format(companyRepository.findVersionByUserEmail(userEmail)),
+                format(clientRepository.findVersionByUserEmail(userEmail)));
+    }
+
+    public String projectsETag(String userEmail) {
+        return eTag("projects", userEmail,
+                format(projectRepository.findVersionByUserEmail(userEmail)),
+                format(companyRepository.findVersionByUserEmail(userEmail)),
+                String.valueOf(contractRepository.findProjectLinksChecksumByUserEmail(userEmail)));
+    }
+
+    public String contractsETag(String userEmail) {
+        return eTag("contracts", userEmail,
+                format(contractRepository.findVersionByUserEmail(userEmail)),
+                format(companyRepository.findVersionByUserEmail(userEmail)),
+                String.valueOf(contractRepository.findProjectLinksChecksumByUserEmail(userEmail)));
+    }
+
+    /**
+     * The statistics aggregate every task of the user's companies, whoever created it.
+     */
+    public String companyProjectStatsETag(String userEmail) {
+        return eTag("company-project-stats", userEmail,
+                format(companyRepository.findVersionByUserEmail(userEmail)),
+                format(projectRepository.findVersionByUserEmail(userEmail)),
+                format(taskRepository.findVersionByCompanyUserEmail(userEmail)));
+    }
+
+    /**
+     * The costs aggregate every task of the user's projects, whoever created it.
+     */
+    public String projectCostsETag(String userEmail) {
+        return eTag("project-costs", userEmail,
+                format(projectRepository.findVersionByUserEmail(userEmail)),
+                format(taskRepository.findVersionByProjectUserEmail(userEmail)));
+    }
+
+    private static String format(DataVersion version) {
+        return version.count() + "@" + version.lastUpdatedAt();
+    }
+
+    /**
+     * Hashes the parts so the tag reveals neither the user nor the row counts.
+     */
+    private static String eTag(String resource, String userEmail, String... versions) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(resource.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(userEmail.getBytes(StandardCharsets.UTF_8));
+            for (String version : versions) {
+                digest.update((byte) 0);
+                digest.update(version.getBytes(StandardCharsets.UTF_8));
+            }
+            return "W/\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
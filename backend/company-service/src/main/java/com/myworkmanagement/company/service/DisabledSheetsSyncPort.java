@@ -0,0 +1,30 @@
+package com.myworkmanagement.company.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Task sheet sync used when Google Sheets is explicitly disabled ({@code google.sheets.enabled=false}, local runs
+ * and tests). The changes are logged and dropped, so the outbox drains without credentials or network access.
+ */
+@Service
+@ConditionalOnProperty(name = "google.sheets.enabled", havingValue = "false")
+public class DisabledSheetsSyncPort implements SheetsSyncPort {
+
+    private static final Logger log = LoggerFactory.getLogger(DisabledSheetsSyncPort.class);
+
+    @PostConstruct
+    void logDisabled() {
+        log.warn("Google Sheets sync is disabled (google.sheets.enabled=false): task changes will not reach the sheet");
+    }
+
+    @Override
+    public void applyChanges(List<SheetRowChange> changes) {
+        log.debug("Google Sheets sync disabled, dropping {} sheet row changes", changes.size());
+    }
+}
@@ -9,164 +9,244 @@ import com.google.api.services.sheets.v4.model.*;
 import com.google.auth.http.HttpCredentialsAdapter;
 import com.google.auth.oauth2.GoogleCredentials;
 
-import org.springframework.scheduling.annotation.Async;
+import com.myworkmanagement.company.entity.SheetSyncOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
+/**
+ * Google Sheets implementation of the task sheet sync, active unless {@code google.sheets.enabled=false}.
+ */
 @Service
-public class GoogleSheetsService {
+@ConditionalOnProperty(name = "google.sheets.enabled", havingValue = "true", matchIfMissing = true)
+public class GoogleSheetsService implements SheetsSyncPort {
+    private static final Logger log = LoggerFactory.getLogger(GoogleSheetsService.class);
     private static final String APPLICATION_NAME = "MyWorkManagement-CompanyService";
     private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
-    private static final String CREDENTIALS_FILE_PATH = "src/main/resources/google-sheets-credentials.json";
     private static final String SHEET_ID = "1I0oNLXK7m5dVXsmGin_zc4cGXqTbqTmkk9lgAcu4gvo"; // TODO: Replace with your actual Sheet ID
     private static final String SHEET_NAME = "Tasks"; // TODO: Replace with your actual Sheet name
+    private static final int TICKET_ID_COLUMN_INDEX = 2; // ticketId is column C
+    // The sheet can be edited by hand, so the row index is rebuilt periodically even without a mismatch
+    private static final Duration ROW_INDEX_MAX_AGE = Duration.ofMinutes(5);
+
+    private final String credentialsFilePath;
+    // Built on first use so that startup neither reads the credentials nor creates the HTTPS transport
+    private volatile Sheets sheetsService;
+    // Held while the client is built, which reads the credentials file
+    private final ReentrantLock sheetsServiceLock = new ReentrantLock();
+
+    // Held across Sheets calls
+    private final ReentrantLock rowIndexLock = new ReentrantLock();
+    // ticketId -> 0-based row index in the sheet; guarded by rowIndexLock together with every row-shifting call
+    private final Map<String, Integer> rowIndexByTicketId = new HashMap<>();
+    private long rowIndexBuiltAt;
+    private boolean rowIndexLoaded;
+    private Integer sheetGid;
+
+    public GoogleSheetsService(@Value("${google.sheets.credentials-path:src/main/resources/google-sheets-credentials.json}") String credentialsFilePath) {
+        this.credentialsFilePath = credentialsFilePath;
+    }
 
-    private Sheets sheetsService;
-
-    public GoogleSheetsService() {
-        try {
-            sheetsService = getSheetsService();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to initialize Google Sheets service", e);
+    private Sheets sheets() throws IOException {
+        Sheets sheets = sheetsService;
+        if (sheets == null) {
+            sheetsServiceLock.lock();
+            try {
+                sheets = sheetsService;
+                if (sheets == null) {
+                    try {
+                        sheets = getSheetsService();
+                    } catch (GeneralSecurityException e) {
+                        throw new IOException("Failed to initialize Google Sheets service", e);
+                    }
+                    sheetsService = sheets;
+                }
+            } finally {
+                sheetsServiceLock.unlock();
+            }
         }
+        return sheets;
     }
 
     private Sheets getSheetsService() throws IOException, GeneralSecurityException {
-        GoogleCredentials credentials = GoogleCredentials.fromStream(new FileInputStream(CREDENTIALS_FILE_PATH))
-                .createScoped(Collections.singleton(SheetsScopes.SPREADSHEETS));
+        GoogleCredentials credentials;
+        try (FileInputStream credentialsStream = new FileInputStream(credentialsFilePath)) {
+            credentials = GoogleCredentials.fromStream(credentialsStream)
+                    .createScoped(Collections.singleton(SheetsScopes.SPREADSHEETS));
+        }
+        log.info("Initializing Google Sheets client with credentials from {}", credentialsFilePath);
         return new Sheets.Builder(GoogleNetHttpTransport.newTrustedTransport(), JSON_FACTORY, new HttpCredentialsAdapter(credentials))
                 .setApplicationName(APPLICATION_NAME)
                 .build();
     }
 
-    @Async
-    public CompletableFuture<Void> addTaskRow(List<Object> rowData) {
+    @Override
+    public void applyChanges(List<SheetRowChange> changes) throws IOException {
+        if (changes.isEmpty()) return;
+        rowIndexLock.lock();
         try {
-            //Insert a new empty row after the header
-            InsertDimensionRequest insertRequest = new InsertDimensionRequest()
-                .setRange(new DimensionRange()
-                    .setSheetId(0)
-                    .setDimension("ROWS")
-                    .setStartIndex(1)
-                    .setEndIndex(2))
-                .setInheritFromBefore(false);
-
-            Request request = new Request().setInsertDimension(insertRequest);
-            
-            BatchUpdateSpreadsheetRequest batchRequest = new BatchUpdateSpreadsheetRequest()
-                .setRequests(Arrays.asList(request));
-
-            sheetsService.spreadsheets().batchUpdate(SHEET_ID, batchRequest).execute();
-
-            //Copy the task values in the empty row before inserted
-            ValueRange updateBody = new ValueRange().setValues(Collections.singletonList(rowData));
-            sheetsService.spreadsheets().values()
-                    .update(SHEET_ID, SHEET_NAME + "!A2:K2", updateBody)
-                    .setValueInputOption("USER_ENTERED")
-                    .execute();
-            return CompletableFuture.completedFuture(null);
-        } catch (Exception e) {
-            CompletableFuture<Void> future = new CompletableFuture<>();
-            future.completeExceptionally(new RuntimeException("Failed to add row to Google Sheet", e));
-            return future;
-        }
-    }
-
-    @Async
-    public CompletableFuture<Void> updateTaskRowByTicketId(String ticketId, List<Object> rowData) {
-        try {
-            Integer rowIndex = findRowIndexByTicketId(ticketId);
-            if (rowIndex == null) {
-                throw new RuntimeException("TicketId not found in sheet: " + ticketId);
+            try {
+                boolean expired = System.currentTimeMillis() - rowIndexBuiltAt > ROW_INDEX_MAX_AGE.toMillis();
+                if (!rowIndexLoaded || expired) {
+                    rebuildRowIndex();
+                } else if (changes.stream().anyMatch(c -> c.getOperation() != SheetSyncOperation.ADD
+                        && !rowIndexByTicketId.containsKey(c.getTicketId()))) {
+                    // A ticket to update or delete is unknown: the sheet changed outside this service
+                    rebuildRowIndex();
+                }
+
+                List<SheetRowChange> adds = new ArrayList<>();
+                List<SheetRowChange> updates = new ArrayList<>();
+                List<String> deletedTicketIds = new ArrayList<>();
+                for (SheetRowChange change : changes) {
+                    boolean inSheet = change.getTicketId() != null && rowIndexByTicketId.containsKey(change.getTicketId());
+                    switch (change.getOperation()) {
+                        case ADD:
+                        case UPDATE:
+                            // Upsert: an UPDATE whose row was deleted by hand, or never added, puts the row back
+                            if (inSheet) updates.add(change); else adds.add(change);
+                            break;
+                        case DELETE:
+                            if (inSheet) deletedTicketIds.add(change.getTicketId());
+                            break;
+                    }
+                }
+
+                // Structural changes: deletes from the bottom up so earlier indexes stay valid, then one insert below the header
+                List<Request> requests = new ArrayList<>();
+                List<Integer> deletedRows = deletedTicketIds.stream()
+                        .map(rowIndexByTicketId::get)
+                        .distinct()
+                        .sorted(Comparator.reverseOrder())
+                        .collect(Collectors.toList());
+                for (Integer rowIndex : deletedRows) {
+                    requests.add(new Request().setDeleteDimension(new DeleteDimensionRequest()
+                            .setRange(new DimensionRange()
+                                    .setSheetId(getSheetGid())
+                                    .setDimension("ROWS")
+                                    .setStartIndex(rowIndex)
+                                    .setEndIndex(rowIndex + 1))));
+                }
+                if (!adds.isEmpty()) {
+                    requests.add(new Request().setInsertDimension(new InsertDimensionRequest()
+                            .setRange(new DimensionRange()
+                                    .setSheetId(getSheetGid())
+                                    .setDimension("ROWS")
+                                    .setStartIndex(1)
+                                    .setEndIndex(1 + adds.size()))
+                            .setInheritFromBefore(false)));
+                }
+                if (!requests.isEmpty()) {
+                    sheets().spreadsheets()
+                            .batchUpdate(SHEET_ID, new BatchUpdateSpreadsheetRequest().setRequests(requests))
+                            .execute();
+                }
+
+                for (String ticketId : deletedTicketIds) {
+                    rowIndexByTicketId.remove(ticketId);
+                }
+                for (Integer rowIndex : deletedRows) {
+                    shiftRowIndex(rowIndex + 1, -1);
+                }
+                shiftRowIndex(1, adds.size());
+                for (int i = 0; i < adds.size(); i++) {
+                    // The last ADD ends up right below the header, as with one insert at row 2 per task
+                    SheetRowChange add = adds.get(adds.size() - 1 - i);
+                    if (add.getTicketId() != null && !add.getTicketId().isEmpty()) {
+                        rowIndexByTicketId.put(add.getTicketId(), 1 + i);
+                    }
+                }
+
+                // Values: one write for every added and updated row
+                List<ValueRange> data = new ArrayList<>();
+                for (int i = 0; i < adds.size(); i++) {
+                    data.add(rowValueRange(1 + i, adds.get(adds.size() - 1 - i).getRowData()));
+                }
+                for (SheetRowChange update : updates) {
+                    data.add(rowValueRange(rowIndexByTicketId.get(update.getTicketId()), update.getRowData()));
+                }
+                if (!data.isEmpty()) {
+                    sheets().spreadsheets().values()
+                            .batchUpdate(SHEET_ID, new BatchUpdateValuesRequest()
+                                    .setValueInputOption("USER_ENTERED")
+                                    .setData(data))
+                            .execute();
+                }
+            } catch (IOException | RuntimeException e) {
+                invalidateRowIndex();
+                throw e;
             }
-            String range = SHEET_NAME + "!A" + (rowIndex + 1) + ":K" + (rowIndex + 1);
-            ValueRange body = new ValueRange().setValues(Collections.singletonList(rowData));
-            sheetsService.spreadsheets().values()
-                    .update(SHEET_ID, range, body)
-                    .setValueInputOption("USER_ENTERED")
-                    .execute();
-            return CompletableFuture.completedFuture(null);
-        } catch (Exception e) {
-            CompletableFuture<Void> future = new CompletableFuture<>();
-            future.completeExceptionally(new RuntimeException("Failed to update row in Google Sheet", e));
-            return future;
+        } finally {
+            rowIndexLock.unlock();
         }
     }
 
-    @Async
-    public CompletableFuture<Void> deleteTaskRowByTicketId(String ticketId) {
-        try {
-            Integer rowIndex = findRowIndexByTicketId(ticketId);
-            if (rowIndex == null) {
-                throw new RuntimeException("TicketId not found in sheet: " + ticketId);
-            }
-            // Google Sheets API does not have a direct delete row by value, so we use batchUpdate
-            BatchUpdateSpreadsheetRequest batchUpdateRequest = new BatchUpdateSpreadsheetRequest()
-                    .setRequests(Collections.singletonList(
-                            new Request().setDeleteDimension(
-                                    new DeleteDimensionRequest()
-                                            .setRange(new DimensionRange()
-                                                    .setSheetId(getSheetGid())
-                                                    .setDimension("ROWS")
-                                                    .setStartIndex(rowIndex)
-                                                    .setEndIndex(rowIndex + 1)
-                                            )
-                                    )
-                            )
-                    );
-            sheetsService.spreadsheets().batchUpdate(SHEET_ID, batchUpdateRequest).execute();
-            return CompletableFuture.completedFuture(null);
-        } catch (Exception e) {
-            CompletableFuture<Void> future = new CompletableFuture<>();
-            future.completeExceptionally(new RuntimeException("Failed to delete row in Google Sheet", e));
-            return future;
-        }
+    private ValueRange rowValueRange(int rowIndex, List<Object> rowData) {
+        return new ValueRange()
+                .setRange(SHEET_NAME + "!A" + (rowIndex + 1) + ":K" + (rowIndex + 1))
+                .setValues(Collections.singletonList(rowData));
     }
 
-    private Integer findRowIndexByTicketId(String ticketId) throws IOException {
-        ValueRange response = sheetsService.spreadsheets().values()
-                .get(SHEET_ID, SHEET_NAME + "!A:K")
+    private void rebuildRowIndex() throws IOException {
+        ValueRange response = sheets().spreadsheets().values()
+                .get(SHEET_ID, SHEET_NAME + "!C:C")
                 .execute();
+        rowIndexByTicketId.clear();
         List<List<Object>> values = response.getValues();
-        if (values == null) return null;
-        for (int i = 0; i < values.size(); i++) {
-            if (values.get(i).size() > 2 && ticketId.equals(values.get(i).get(2))) { // ticketId is column C (index 2)
-                return i;
+        if (values != null) {
+            for (int i = 0; i < values.size(); i++) {
+                List<Object> row = values.get(i);
+                if (!row.isEmpty() && row.get(0) != null) {
+                    // Keep the first occurrence, as the previous full-sheet scan did
+                    rowIndexByTicketId.putIfAbsent(row.get(0).toString(), i);
+                }
             }
         }
-        return null;
+        rowIndexLoaded = true;
+        rowIndexBuiltAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Shifts every indexed row at or below {@code fromRowIndex} by {@code delta} rows.
+     */
+    private void shiftRowIndex(int fromRowIndex, int delta) {
+        if (!rowIndexLoaded) return;
+        rowIndexByTicketId.replaceAll((ticketId, rowIndex) -> rowIndex >= fromRowIndex ? rowIndex + delta : rowIndex);
+    }
+
+    private void invalidateRowIndex() {
+        rowIndexLock.lock();
+        try {
+            rowIndexLoaded = false;
+            rowIndexByTicketId.clear();
+        } finally {
+            rowIndexLock.unlock();
+        }
     }
 
     private Integer getSheetGid() throws IOException {
-        Spreadsheet spreadsheet = sheetsService.spreadsheets().get(SHEET_ID).execute();
+        if (sheetGid != null) {
+            return sheetGid;
+        }
+        Spreadsheet spreadsheet = sheets().spreadsheets().get(SHEET_ID)
+                .setFields("sheets.properties(sheetId,title)")
+                .execute();
         for (Sheet sheet : spreadsheet.getSheets()) {
             if (SHEET_NAME.equals(sheet.getProperties().getTitle())) {
-                return sheet.getProperties().getSheetId();
+                sheetGid = sheet.getProperties().getSheetId();
+                return sheetGid;
             }
         }
         throw new RuntimeException("Sheet name not found: " + SHEET_NAME);
     }
-
-    @Async
-    public CompletableFuture<Void> addBulk(List<List<Object>> listOfRowData) {
-        try {
-            BatchUpdateValuesRequest batchUpdateRequest = new BatchUpdateValuesRequest();
-            batchUpdateRequest.setValueInputOption("USER_ENTERED");
-            batchUpdateRequest.setData(Collections.singletonList(
-                    new ValueRange().setRange(SHEET_NAME + "!A2:K" + (listOfRowData.size() + 1)).setValues(listOfRowData)
-            ));
-            sheetsService.spreadsheets().values().batchUpdate(SHEET_ID, batchUpdateRequest).execute();
-            return CompletableFuture.completedFuture(null);
-        } catch (IOException e) {
-            CompletableFuture<Void> future = new CompletableFuture<>();
-            future.completeExceptionally(e);
-            return future;
-        }
-    }
-
-} 
\ No newline at end of file
+}
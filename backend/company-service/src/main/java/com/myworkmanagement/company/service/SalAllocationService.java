@@ -0,0 +1,235 @@
+package com.myworkmanagement.company.service;
+
+import com.myworkmanagement.company.dto.TaskContractUsageDTO;
+import com.myworkmanagement.company.dto.TaskDTO;
+import com.myworkmanagement.company.entity.Contract;
+import com.myworkmanagement.company.entity.Task;
+import com.myworkmanagement.company.entity.TaskContractUsage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Splits SAL tasks across contract budgets. Stateless: callers decide which contracts apply
+ * and may pass in-memory balances to carry amounts forward across several SALs.
+ */
+@Service
+public class SalAllocationService {
+
+    private final Timer allocationTimer;
+
+    public SalAllocationService(MeterRegistry meterRegistry) {
+        this.allocationTimer = Timer.builder("sal.allocation")
+                .description("Time spent allocating SAL tasks to contracts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Allocates tasks across the given contracts using their current available amount.
+     */
+    public Map<Contract, List<TaskDTO>> allocateTasksToContracts(List<TaskDTO> tasks, List<Contract> contracts) {
+        return allocateTasksToContracts(tasks, contracts, Map.of());
+    }
+
+    /**
+     * Allocates tasks across contracts.
+     * Tasks are processed in order. When a contract's budget is exhausted, the
+     * overflowing task is split: the portion that fits stays with the current contract,
+     * and the remainder moves to the next contract.
+     * The budget of a contract is taken from {@code balances} when present (keyed by contract ID),
+     * otherwise from the contract's available amount.
+     * Returns a map of Contract -> task list (preserving contract order).
+     * If no contracts exist, returns a single entry with null key and all tasks uncapped.
+     */
+    public Map<Contract, List<TaskDTO>> allocateTasksToContracts(List<TaskDTO> tasks, List<Contract> contracts,
+                                                                Map<Long, BigDecimal> balances) {
+        return allocationTimer.record(() -> allocate(tasks, contracts, balances));
+    }
+
+    private Map<Contract, List<TaskDTO>> allocate(List<TaskDTO> tasks, List<Contract> contracts,
+                                                  Map<Long, BigDecimal> balances) {
+        Map<Contract, List<TaskDTO>> allocations = new LinkedHashMap<>();
+
+        if (contracts.isEmpty()) {
+            allocations.put(null, tasks);
+            return allocations;
+        }
+
+        List<TaskDTO> remainingTasks = new ArrayList<>(tasks);
+
+        for (Contract contract : contracts) {
+            if (remainingTasks.isEmpty()) break;
+
+            BigDecimal availableAmount = availableAmount(contract, balances);
+            if (availableAmount == null || availableAmount.compareTo(BigDecimal.ZERO) <= 0) continue;
+
+            List<TaskDTO> contractTasks = new ArrayList<>();
+            List<TaskDTO> nextRemaining = new ArrayList<>();
+            BigDecimal runningTotal = BigDecimal.ZERO;
+            boolean budgetExhausted = false;
+
+            for (TaskDTO task : remainingTasks) {
+                if (budgetExhausted) {
+                    nextRemaining.add(task);
+                    continue;
+                }
+
+                BigDecimal hours = task.getHoursWorked() != null ? task.getHoursWorked() : BigDecimal.ZERO;
+                BigDecimal rate = task.getRateUsed() != null ? task.getRateUsed() : BigDecimal.ZERO;
+                BigDecimal taskCost = hours.multiply(rate);
+                BigDecimal newTotal = runningTotal.add(taskCost);
+
+                if (newTotal.compareTo(availableAmount) <= 0) {
+                    contractTasks.add(task);
+                    runningTotal = newTotal;
+                } else {
+                    BigDecimal remaining = availableAmount.subtract(runningTotal);
+                    if (remaining.compareTo(BigDecimal.ZERO) > 0 && rate.compareTo(BigDecimal.ZERO) > 0) {
+                        BigDecimal adjustedHours = remaining.divide(rate, 2, RoundingMode.HALF_UP);
+                        contractTasks.add(copyTaskWithAdjustedHours(task, adjustedHours, remaining));
+
+                        BigDecimal spillHours = hours.subtract(adjustedHours);
+                        if (spillHours.compareTo(BigDecimal.ZERO) > 0) {
+                            BigDecimal spillAmount = taskCost.subtract(remaining);
+                            nextRemaining.add(copyTaskWithAdjustedHours(task, spillHours, spillAmount));
+                        }
+                    } else {
+                        nextRemaining.add(task);
+                    }
+                    budgetExhausted = true;
+                }
+            }
+
+            if (!contractTasks.isEmpty()) {
+                allocations.put(contract, contractTasks);
+            }
+            remainingTasks = nextRemaining;
+        }
+
+        if (!remainingTasks.isEmpty() && !allocations.isEmpty()) {
+            Contract lastContract = null;
+            for (Contract c : allocations.keySet()) lastContract = c;
+            allocations.get(lastContract).addAll(remainingTasks);
+        } else if (!remainingTasks.isEmpty()) {
+            allocations.put(null, remainingTasks);
+        }
+
+        return allocations;
+    }
+
+    public BigDecimal computeRemainingAfterSal(Contract contract, List<TaskDTO> salTasks) {
+        return computeRemainingAfterSal(contract, salTasks, Map.of());
+    }
+
+    /**
+     * Returns the contract residual after the given SAL tasks, never below zero.
+     * Returns null when the tasks are not capped by a contract.
+     */
+    public BigDecimal computeRemainingAfterSal(Contract contract, List<TaskDTO> salTasks, Map<Long, BigDecimal> balances) {
+        if (contract == null) return null;
+        BigDecimal salTotal = BigDecimal.ZERO;
+        for (TaskDTO t : salTasks) {
+            salTotal = salTotal.add(resolveBillableAmount(t));
+        }
+        BigDecimal remaining = availableAmount(contract, balances).subtract(salTotal);
+        return remaining.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : remaining;
+    }
+
+    public BigDecimal resolveBillableAmount(TaskDTO task) {
+        if (task.getBillableAmount() != null) {
+            return task.getBillableAmount();
+        }
+        BigDecimal h = task.getHoursWorked() != null ? task.getHoursWorked() : BigDecimal.ZERO;
+        BigDecimal r = task.getRateUsed() != null ? task.getRateUsed() : BigDecimal.ZERO;
+        return h.multiply(r);
+    }
+
+    /**
+     * Maps a task to the DTO used by SAL generation, with the contract usages already loaded by the caller.
+     */
+    public TaskDTO convertTaskToDTO(Task task, List<TaskContractUsage> usages) {
+        List<TaskContractUsageDTO> usageDTOs = usages != null && !usages.isEmpty()
+                ? usages.stream()
+                    .map(u -> TaskContractUsageDTO.builder()
+                            .contractId(u.getContract().getId())
+                            .contractCode(u.getContractCode())
+                            .amountUsed(u.getAmountUsed())
+                            .build())
+                    .collect(Collectors.toList())
+                : null;
+
+        return TaskDTO.builder()
+                .id(task.getId())
+                .projectId(task.getProject().getId())
+                .projectName(task.getProject().getName())
+                .companyName(task.getProject().getCompany().getName())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .ticketId(task.getTicketId())
+                .startDate(task.getStartDate())
+                .endDate(task.getEndDate())
+                .hoursWorked(task.getHoursWorked())
+                .rateUsed(task.getRateUsed())
+                .type(task.getType())
+                .currency(task.getCurrency())
+                .isBilled(task.getIsBilled())
+                .isPaid(task.getIsPaid())
+                .billingDate(task.getBillingDate())
+                .paymentDate(task.getPaymentDate())
+                .invoiceId(task.getInvoiceId())
+                .referencedTaskId(task.getReferencedTaskId())
+                .clientId(task.getClient() != null ? task.getClient().getId() : null)
+                .clientName(task.getClient() != null ? task.getClient().getName() : null)
+                .notes(task.getNotes())
+                .userEmail(task.getUserEmail())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .contractUsages(usageDTOs)
+                .build();
+    }
+
+    private BigDecimal availableAmount(Contract contract, Map<Long, BigDecimal> balances) {
+        BigDecimal balance = contract.getId() != null ? balances.get(contract.getId()) : null;
+        return balance != null ? balance : contract.getAmountAvailable();
+    }
+
+    private TaskDTO copyTaskWithAdjustedHours(TaskDTO task, BigDecimal adjustedHours, BigDecimal billableAmount) {
+        return TaskDTO.builder()
+            .id(task.getId())
+            .projectId(task.getProjectId())
+            .projectName(task.getProjectName())
+            .companyName(task.getCompanyName())
+            .title(task.getTitle())
+            .description(task.getDescription())
+            .ticketId(task.getTicketId())
+            .startDate(task.getStartDate())
+            .endDate(task.getEndDate())
+            .hoursWorked(adjustedHours)
+            .billableAmount(billableAmount)
+            .rateUsed(task.getRateUsed())
+            .type(task.getType())
+            .currency(task.getCurrency())
+            .isBilled(task.getIsBilled())
+            .isPaid(task.getIsPaid())
+            .billingDate(task.getBillingDate())
+            .paymentDate(task.getPaymentDate())
+            .invoiceId(task.getInvoiceId())
+            .referencedTaskId(task.getReferencedTaskId())
+            .clientId(task.getClientId())
+            .clientName(task.getClientName())
+            .notes(task.getNotes())
+            .userEmail(task.getUserEmail())
+            .createdAt(task.getCreatedAt())
+            .updatedAt(task.getUpdatedAt())
+            .contractUsages(task.getContractUsages())
+            .build();
+    }
+}
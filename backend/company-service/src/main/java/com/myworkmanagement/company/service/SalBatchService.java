@@ -0,0 +1,264 @@
+package com.myworkmanagement.company.service;
+
+import com.myworkmanagement.company.dto.TaskDTO;
+import com.myworkmanagement.company.entity.Company;
+import com.myworkmanagement.company.entity.Contract;
+import com.myworkmanagement.company.entity.ContractStatus;
+import com.myworkmanagement.company.entity.Project;
+import com.myworkmanagement.company.entity.Task;
+import com.myworkmanagement.company.entity.TaskContractUsage;
+import com.myworkmanagement.company.exception.ResourceNotFoundException;
+import com.myworkmanagement.company.repository.CompanyRepository;
+import com.myworkmanagement.company.repository.ContractRepository;
+import com.myworkmanagement.company.repository.ProjectRepository;
+import com.myworkmanagement.company.repository.TaskContractUsageRepository;
+import com.myworkmanagement.company.repository.TaskRepository;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Generates SAL documents for several Dedagroup projects and months in one go.
+ * Tasks, contracts and contract usages are loaded in bulk, allocated month by month in memory
+ * while carrying contract balances forward, and the PDFs are rendered in parallel on a shared executor into a single ZIP.
+ */
+@Service
+@RequiredArgsConstructor
+public class SalBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(SalBatchService.class);
+    private static final int USAGE_LOOKUP_CHUNK_SIZE = 1000;
+
+    private final CompanyRepository companyRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ContractRepository contractRepository;
+    private final TaskContractUsageRepository taskContractUsageRepository;
+    private final SalAllocationService salAllocationService;
+    private final SalPdfService salPdfService;
+    private final ThreadPoolTaskExecutor salRenderExecutor;
+
+    // Renders in flight per download
+    @Value("${sal.batch.render-parallelism:4}")
+    private int renderParallelism;
+
+    /**
+     * A single SAL document of the batch, ready to be rendered.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class SalBatchEntry {
+        private String entryName;
+        private LocalDate reportMonth;
+        private String projectName;
+        private String contractCode;
+        private BigDecimal remainingAfterSal;
+        private List<TaskDTO> tasks;
+    }
+
+    /**
+     * User details printed on every document of the batch.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class SalDocumentInfo {
+        private String userEmail;
+        private String userName;
+        private String userAddress;
+        private String userPhone;
+        private String userEmailAddress;
+    }
+
+    /**
+     * Loads the tasks of the user for the given projects (all Dedagroup projects when none are given)
+     * between the two dates and allocates them to contracts month by month.
+     * Each contract starts from its current available amount and the residual of one month
+     * becomes the budget of the next.
+     */
+    @Transactional(readOnly = true)
+    public List<SalBatchEntry> prepareBatch(String userEmail, LocalDate startDate, LocalDate endDate, List<Long> projectIds) {
+        Company dedagroupCompany = companyRepository.findByName("Dedagroup")
+            .orElseThrow(() -> new ResourceNotFoundException("Company 'Dedagroup' not found"));
+
+        List<Task> tasks;
+        if (projectIds != null && !projectIds.isEmpty()) {
+            List<Project> projects = projectRepository.findAllById(projectIds);
+            for (Long projectId : projectIds) {
+                Project project = projects.stream()
+                    .filter(p -> p.getId().equals(projectId))
+                    .findFirst()
+                    .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+                if (!dedagroupCompany.getId().equals(project.getCompany().getId())) {
+                    throw new IllegalArgumentException("Project does not belong to Dedagroup company");
+                }
+            }
+            tasks = taskRepository.findByUserEmailAndProjectIdsAndDateRange(userEmail, projectIds, startDate, endDate);
+        } else {
+            tasks = taskRepository.findByUserEmailAndCompanyIdAndDateRangeFetchProject(
+                userEmail, dedagroupCompany.getId(), startDate, endDate);
+        }
+
+        if (tasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, List<TaskContractUsage>> usagesByTaskId = findUsagesByTaskId(tasks);
+
+        // month -> project -> tasks, both in ascending order
+        Map<YearMonth, Map<Long, List<TaskDTO>>> tasksByMonthAndProject = new TreeMap<>();
+        Map<Long, String> projectNames = new HashMap<>();
+        for (Task task : tasks) {
+            Long projectId = task.getProject().getId();
+            projectNames.putIfAbsent(projectId, task.getProject().getName());
+            tasksByMonthAndProject
+                .computeIfAbsent(YearMonth.from(task.getStartDate()), m -> new TreeMap<>())
+                .computeIfAbsent(projectId, p -> new ArrayList<>())
+                .add(salAllocationService.convertTaskToDTO(task, usagesByTaskId.get(task.getId())));
+        }
+
+        Map<Long, List<Contract>> contractsByProjectId = new LinkedHashMap<>();
+        for (Object[] row : contractRepository.findProjectContractPairsByProjectIdsAndStatus(
+                projectNames.keySet(), ContractStatus.OPEN)) {
+            contractsByProjectId.computeIfAbsent((Long) row[0], p -> new ArrayList<>()).add((Contract) row[1]);
+        }
+
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        List<SalBatchEntry> entries = new ArrayList<>();
+
+        for (Map.Entry<YearMonth, Map<Long, List<TaskDTO>>> monthEntry : tasksByMonthAndProject.entrySet()) {
+            YearMonth month = monthEntry.getKey();
+            for (Map.Entry<Long, List<TaskDTO>> projectEntry : monthEntry.getValue().entrySet()) {
+                Long projectId = projectEntry.getKey();
+                List<Contract> contracts = contractsByProjectId.getOrDefault(projectId, Collections.emptyList());
+
+                Map<Contract, List<TaskDTO>> allocations = salAllocationService.allocateTasksToContracts(
+                    projectEntry.getValue(), contracts, balances);
+
+                for (Map.Entry<Contract, List<TaskDTO>> allocation : allocations.entrySet()) {
+                    Contract contract = allocation.getKey();
+                    List<TaskDTO> salTasks = allocation.getValue();
+                    BigDecimal remainingAfterSal = salAllocationService.computeRemainingAfterSal(contract, salTasks, balances);
+                    if (contract != null) {
+                        balances.put(contract.getId(), remainingAfterSal);
+                    }
+
+                    String contractCode = contract != null ? contract.getCode() : null;
+                    entries.add(new SalBatchEntry(
+                        buildEntryName(month, projectNames.get(projectId), contractCode, allocations.size() > 1),
+                        month.atDay(1),
+                        projectNames.get(projectId),
+                        contractCode,
+                        remainingAfterSal,
+                        salTasks));
+                }
+            }
+        }
+
+        log.info("Prepared SAL batch for {}: {} tasks, {} documents", userEmail, tasks.size(), entries.size());
+        return entries;
+    }
+
+    /**
+     * Renders the batch entries on the shared render executor and writes them, in order, as one ZIP to the given stream.
+     * At most {@code sal.batch.render-parallelism} renders are in flight: the next one is submitted as each
+     * document is written, so memory holds a bounded number of rendered PDFs whatever the batch size.
+     */
+    public void writeBatchZip(List<SalBatchEntry> entries, SalDocumentInfo info, OutputStream out) throws IOException {
+        int window = Math.max(1, renderParallelism);
+        Deque<Future<byte[]>> renders = new ArrayDeque<>(window);
+        int submitted = 0;
+        try {
+            while (submitted < entries.size() && renders.size() < window) {
+                renders.add(submitRender(entries.get(submitted++), info));
+            }
+
+            ZipOutputStream zipOut = new ZipOutputStream(out);
+            for (SalBatchEntry entry : entries) {
+                byte[] pdfBytes = awaitRender(renders.poll());
+                if (submitted < entries.size()) {
+                    renders.add(submitRender(entries.get(submitted++), info));
+                }
+                zipOut.putNextEntry(new ZipEntry(entry.getEntryName()));
+                zipOut.write(pdfBytes);
+                zipOut.closeEntry();
+            }
+            zipOut.finish();
+            zipOut.flush();
+        } finally {
+            // A failed or aborted download must not leave its renders occupying the shared executor
+            renders.forEach(render -> render.cancel(true));
+        }
+    }
+
+    private Future<byte[]> submitRender(SalBatchEntry entry, SalDocumentInfo info) {
+        return salRenderExecutor.submit(() -> salPdfService.generateSalPdf(entry.getTasks(),
+            info.getUserEmail(), info.getUserName(), info.getUserAddress(), info.getUserPhone(),
+            info.getUserEmailAddress(), entry.getProjectName(), entry.getReportMonth(),
+            entry.getContractCode(), entry.getRemainingAfterSal()));
+    }
+
+    private byte[] awaitRender(Future<byte[]> render) throws IOException {
+        try {
+            return render.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while rendering SAL batch", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Error rendering SAL batch document", e.getCause());
+        }
+    }
+
+    /**
+     * Loads the contract usages of the tasks in chunks of {@link #USAGE_LOOKUP_CHUNK_SIZE} IDs, so a batch over
+     * a long period neither exceeds the driver's bind parameter limit nor sends one huge IN list.
+     */
+    private Map<Long, List<TaskContractUsage>> findUsagesByTaskId(List<Task> tasks) {
+        List<Long> taskIds = tasks.stream().map(Task::getId).collect(Collectors.toList());
+        Map<Long, List<TaskContractUsage>> usagesByTaskId = new HashMap<>();
+        for (int from = 0; from < taskIds.size(); from += USAGE_LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = taskIds.subList(from, Math.min(from + USAGE_LOOKUP_CHUNK_SIZE, taskIds.size()));
+            for (TaskContractUsage usage : taskContractUsageRepository.findByTaskIdIn(chunk)) {
+                usagesByTaskId.computeIfAbsent(usage.getTask().getId(), id -> new ArrayList<>()).add(usage);
+            }
+        }
+        return usagesByTaskId;
+    }
+
+    private String buildEntryName(YearMonth month, String projectName, String contractCode, boolean multipleContracts) {
+        String name = String.format("SAL_%d_%02d_%s", month.getYear(), month.getMonthValue(), sanitizeFileName(projectName));
+        if (multipleContracts) {
+            name += "_" + (contractCode != null ? sanitizeFileName(contractCode) : "no-contract");
+        }
+        return name + ".pdf";
+    }
+
+    private String sanitizeFileName(String value) {
+        return value == null ? "" : value.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
@@ -2,8 +2,11 @@ package com.myworkmanagement.company.service;
 
 import com.myworkmanagement.company.dto.TaskContractUsageDTO;
 import com.myworkmanagement.company.dto.TaskDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.core.io.ClassPathResource;
 
@@ -23,6 +26,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.apache.pdfbox.io.IOUtils;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
@@ -47,6 +51,19 @@ public class SalPdfService {
         ITALIAN_NUMBER_FORMAT = new DecimalFormat("#,##0.00", symbols);
     }
 
+    // Above this many tasks the document buffers its streams in temp files instead of on the heap
+    @Value("${sal.pdf.large-document-task-threshold:200}")
+    private int largeDocumentTaskThreshold;
+
+    private final Timer renderTimer;
+
+    public SalPdfService(MeterRegistry meterRegistry) {
+        this.renderTimer = Timer.builder("sal.pdf.render")
+                .description("Time spent rendering a SAL PDF")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     /**
      * Sanitizes text for PDF rendering by removing/replacing control characters
      * that are not supported by standard fonts with WinAnsiEncoding
@@ -69,7 +86,7 @@ public class SalPdfService {
     /**
      * Wraps text to fit within a specified width
      */
-    private java.util.List<String> wrapText(String text, float maxWidth, PDType1Font font, float fontSize) throws IOException {
+    java.util.List<String> wrapText(String text, float maxWidth, PDType1Font font, float fontSize) throws IOException {
         java.util.List<String> lines = new java.util.ArrayList<>();
         if (text == null || text.isEmpty()) {
             return lines;
@@ -97,6 +114,18 @@ public class SalPdfService {
         return lines;
     }
 
+    /**
+     * Creates the PDF document, switching to a temp-file-backed stream cache for large SALs
+     * so that memory usage per render stays bounded regardless of the number of pages
+     */
+    private PDDocument createDocument(int taskCount) {
+        if (largeDocumentTaskThreshold > 0 && taskCount > largeDocumentTaskThreshold) {
+            log.info("Generating SAL PDF for {} tasks in large-document mode (temp-file stream cache)", taskCount);
+            return new PDDocument(IOUtils.createTempFileOnlyStreamCache());
+        }
+        return new PDDocument();
+    }
+
     /**
      * Generates a SAL PDF document matching the formal Italian business document format
      */
@@ -115,8 +144,20 @@ public class SalPdfService {
         if (tasks == null || tasks.isEmpty()) {
             throw new IllegalArgumentException("Cannot generate SAL PDF: no tasks provided");
         }
-        
-        PDDocument document = new PDDocument();
+
+        Timer.Sample sample = Timer.start();
+        // Always close the document so temp-file buffers are released even when rendering fails
+        try (PDDocument document = createDocument(tasks.size())) {
+            return renderSalPdf(document, tasks, userName, userAddress, reportMonth,
+                contractCode, contractAmountAvailable);
+        } finally {
+            sample.stop(renderTimer);
+        }
+    }
+
+    private byte[] renderSalPdf(PDDocument document, List<TaskDTO> tasks, String userName,
+                                String userAddress, LocalDate reportMonth,
+                                String contractCode, BigDecimal contractAmountAvailable) throws IOException {
         PDPage page = new PDPage();
         document.addPage(page);
 
@@ -735,7 +776,6 @@ public class SalPdfService {
 
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         document.save(baos);
-        document.close();
 
         return baos.toByteArray();
     }
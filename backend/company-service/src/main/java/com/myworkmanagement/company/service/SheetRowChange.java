@@ -0,0 +1,19 @@
+package com.myworkmanagement.company.service;
+
+import com.myworkmanagement.company.entity.SheetSyncOperation;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Net change to apply to the sheet row of one ticket, after coalescing all pending intents for it.
+ */
+@Data
+@AllArgsConstructor
+public class SheetRowChange {
+    private String ticketId;
+    private SheetSyncOperation operation;
+    // Row values in column order A:K, null for deletes
+    private List<Object> rowData;
+}
@@ -0,0 +1,19 @@
+package com.myworkmanagement.company.service;
+
+import com.myworkmanagement.company.entity.SheetSyncOperation;
+
+import java.util.List;
+
+public interface SheetSyncOutboxService {
+
+    /**
+     * Records a sheet sync intent. Must be called inside the transaction that changes the task,
+     * so the intent is committed or rolled back together with it.
+     */
+    void enqueue(SheetSyncOperation operation, String ticketId, List<Object> rowData);
+
+    /**
+     * Sends the pending intents to the sheet, coalesced per ticket, as one batch.
+     */
+    void flush();
+}
@@ -0,0 +1,18 @@
+package com.myworkmanagement.company.service;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination of the task sheet sync. Implementations apply a whole batch of coalesced row changes at once.
+ */
+public interface SheetsSyncPort {
+
+    /**
+     * Applies the changes, at most one per ticket. New rows are inserted below the header so that
+     * the last ADD of the list ends up on top. ADD and UPDATE are upserts: an ADD for a ticket that is already
+     * in the sheet is applied as an update, an UPDATE for a missing ticket as an add, and a DELETE for a missing
+     * ticket is ignored, so re-applying a batch is safe.
+     */
+    void applyChanges(List<SheetRowChange> changes) throws IOException;
+}
@@ -0,0 +1,20 @@
+package com.myworkmanagement.company.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published when data shown in a user's badges changes; delivered to the user's event streams after commit.
+ */
+@Data
+@AllArgsConstructor
+public class UserDataChangedEvent {
+
+    public enum Topic {
+        NOTES,
+        REMINDERS
+    }
+
+    private String userEmail;
+    private Topic topic;
+}
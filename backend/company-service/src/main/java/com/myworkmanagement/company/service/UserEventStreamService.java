@@ -0,0 +1,158 @@
+package com.myworkmanagement.company.service;
+
+import com.myworkmanagement.company.config.JwtAuthenticationDetails;
+import com.myworkmanagement.company.config.TokenRevocationCache;
+import com.myworkmanagement.company.repository.NoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Event streams per user, replacing badge polling.
+ * A stream receives the unread note count when it connects and whenever the user's notes change,
+ * and a reminders event whenever the user's reminders change. Streams get a heartbeat comment so proxies keep
+ * them open and dead connections are noticed; each user may hold a limited number of streams (the oldest is closed
+ * when a new one exceeds the limit) and the total is capped.
+ * <p>
+ * A stream never outlives the token it was opened with: it times out when the token expires, and the heartbeat
+ * closes it once the token is revoked. The client then reconnects with its current token or is turned away.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserEventStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserEventStreamService.class);
+
+    private final NoteRepository noteRepository;
+    private final TokenRevocationCache tokenRevocationCache;
+
+    @Value("${events.max-connections-per-user:3}")
+    private int maxConnectionsPerUser;
+
+    @Value("${events.max-connections:500}")
+    private int maxConnections;
+
+    @Value("${events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    private final Map<String, List<Stream>> streamsByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    // jti is null when the stream was not opened with a JWT
+    private record Stream(SseEmitter emitter, String jti) {
+    }
+
+    public SseEmitter subscribe(String userEmail, JwtAuthenticationDetails token) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many open event streams");
+        }
+
+        // Client reconnects when the stream times out
+        SseEmitter emitter = new SseEmitter(timeoutFor(token));
+        Stream stream = new Stream(emitter, token != null ? token.jti() : null);
+        List<Stream> streams = streamsByUser.computeIfAbsent(userEmail, u -> new CopyOnWriteArrayList<>());
+        streams.add(stream);
+        emitter.onCompletion(() -> remove(userEmail, stream));
+        emitter.onTimeout(() -> remove(userEmail, stream));
+        emitter.onError(e -> remove(userEmail, stream));
+
+        while (streams.size() > maxConnectionsPerUser) {
+            Stream oldest = streams.get(0);
+            remove(userEmail, oldest);
+            oldest.emitter().complete();
+        }
+
+        send(userEmail, stream, "unread-notes", Map.of("count", noteRepository.countByUserEmailAndReadTickFalse(userEmail)));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        String userEmail = event.getUserEmail();
+        List<Stream> streams = streamsByUser.get(userEmail);
+        if (streams == null || streams.isEmpty()) {
+            // Nobody is listening: no query, no push
+            return;
+        }
+
+        String name;
+        Object data;
+        if (event.getTopic() == UserDataChangedEvent.Topic.NOTES) {
+            name = "unread-notes";
+            data = Map.of("count", noteRepository.countByUserEmailAndReadTickFalse(userEmail));
+        } else {
+            name = "reminders";
+            data = Map.of("changed", true);
+        }
+        for (Stream stream : streams) {
+            send(userEmail, stream, name, data);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${events.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        streamsByUser.forEach((userEmail, streams) -> {
+            for (Stream stream : streams) {
+                if (tokenRevocationCache.isRevoked(stream.jti())) {
+                    log.debug("Closing event stream of {}: token revoked", userEmail);
+                    remove(userEmail, stream);
+                    stream.emitter().complete();
+                    continue;
+                }
+                try {
+                    stream.emitter().send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    remove(userEmail, stream);
+                }
+            }
+        });
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * The configured timeout, shortened to the token's remaining lifetime.
+     */
+    private long timeoutFor(JwtAuthenticationDetails token) {
+        if (token == null || token.expiresAtMillis() <= 0) {
+            return timeoutMs;
+        }
+        long untilExpiry = token.expiresAtMillis() - System.currentTimeMillis();
+        return Math.max(1, Math.min(timeoutMs, untilExpiry));
+    }
+
+    private void send(String userEmail, Stream stream, String name, Object data) {
+        try {
+            stream.emitter().send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping event stream of {}: {}", userEmail, e.getMessage());
+            remove(userEmail, stream);
+        }
+    }
+
+    private void remove(String userEmail, Stream stream) {
+        List<Stream> streams = streamsByUser.get(userEmail);
+        if (streams != null && streams.remove(stream)) {
+            connectionCount.decrementAndGet();
+            streamsByUser.computeIfPresent(userEmail, (u, list) -> list.isEmpty() ? null : list);
+        }
+    }
+}
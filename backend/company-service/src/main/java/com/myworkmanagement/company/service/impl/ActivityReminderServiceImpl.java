@@ -3,13 +3,16 @@ package com.myworkmanagement.company.service.impl;
 import com.myworkmanagement.company.dto.ActivityReminderCreateDTO;
 import com.myworkmanagement.company.dto.ActivityReminderDTO;
 import com.myworkmanagement.company.dto.ReminderPreflightResponseDTO;
-import com.myworkmanagement.company.entity.ActivityEndpointMap;
 import com.myworkmanagement.company.entity.ActivityReminder;
 import com.myworkmanagement.company.exception.ResourceNotFoundException;
 import com.myworkmanagement.company.repository.ActivityEndpointMapRepository;
 import com.myworkmanagement.company.repository.ActivityReminderRepository;
+import com.myworkmanagement.company.service.ActiveReminderCache;
 import com.myworkmanagement.company.service.ActivityReminderService;
+import com.myworkmanagement.company.service.ActivityRouteIndex;
+import com.myworkmanagement.company.service.UserDataChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,10 +23,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +32,9 @@ public class ActivityReminderServiceImpl implements ActivityReminderService {
 
     private final ActivityReminderRepository activityReminderRepository;
     private final ActivityEndpointMapRepository activityEndpointMapRepository;
+    private final ActivityRouteIndex activityRouteIndex;
+    private final ActiveReminderCache activeReminderCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -65,9 +69,7 @@ public class ActivityReminderServiceImpl implements ActivityReminderService {
         String activityName = request.getActivityName().trim();
         String message = request.getMessage().trim();
 
-        boolean activityExists = activityEndpointMapRepository.findDistinctEnabledActivityNames().stream()
-                .anyMatch(name -> name.equals(activityName));
-        if (!activityExists) {
+        if (!activityEndpointMapRepository.existsByActivityNameAndEnabledTrue(activityName)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Selected activity is not available");
         }
 
@@ -78,6 +80,8 @@ public class ActivityReminderServiceImpl implements ActivityReminderService {
                 .active(Boolean.TRUE)
                 .completedDate(null)
                 .build());
+        activeReminderCache.invalidate(userEmail);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userEmail, UserDataChangedEvent.Topic.REMINDERS));
         return mapToDTO(saved);
     }
 
@@ -91,13 +95,17 @@ public class ActivityReminderServiceImpl implements ActivityReminderService {
             reminder.setActive(Boolean.FALSE);
             reminder.setCompletedDate(LocalDateTime.now());
             reminder = activityReminderRepository.save(reminder);
+            activeReminderCache.invalidate(userEmail);
+            eventPublisher.publishEvent(new UserDataChangedEvent(userEmail, UserDataChangedEvent.Topic.REMINDERS));
         }
 
         return mapToDTO(reminder);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    // Not read-only: a cache miss loads the user's reminders into ActiveReminderCache, which must not be filled
+    // from a lagging replica. Hits do not touch the database at all.
+    @Transactional
     public ReminderPreflightResponseDTO checkPreflight(String userEmail, String httpMethod, String path) {
         String normalizedMethod = httpMethod == null ? "" : httpMethod.trim().toUpperCase();
         String normalizedPath = normalizePath(path);
@@ -108,26 +116,14 @@ public class ActivityReminderServiceImpl implements ActivityReminderService {
                     .build();
         }
 
-        List<ActivityEndpointMap> candidates = activityEndpointMapRepository
-                .findByHttpMethodIgnoreCaseAndEnabledTrue(normalizedMethod);
+        Set<String> matchedActivities = activityRouteIndex.findActivities(normalizedMethod, normalizedPath);
 
-        Set<String> matchedActivities = new LinkedHashSet<>();
-        for (ActivityEndpointMap mapping : candidates) {
-            if (pathMatches(mapping.getEndpointPattern(), normalizedPath)) {
-                matchedActivities.add(mapping.getActivityName());
-            }
-        }
-
-        for (String activityName : matchedActivities) {
-            ActivityReminder reminder = activityReminderRepository
-                    .findFirstByUserEmailAndActiveTrueAndActivityNameOrderByCreationDateAsc(userEmail, activityName)
-                    .orElse(null);
-            if (reminder != null) {
-                return ReminderPreflightResponseDTO.builder()
-                        .shouldShowReminder(Boolean.TRUE)
-                        .reminder(mapToDTO(reminder))
-                        .build();
-            }
+        ActivityReminder reminder = activeReminderCache.findOldestActive(userEmail, matchedActivities).orElse(null);
+        if (reminder != null) {
+            return ReminderPreflightResponseDTO.builder()
+                    .shouldShowReminder(Boolean.TRUE)
+                    .reminder(mapToDTO(reminder))
+                    .build();
         }
 
         return ReminderPreflightResponseDTO.builder()
@@ -151,24 +147,6 @@ public class ActivityReminderServiceImpl implements ActivityReminderService {
         return normalized;
     }
 
-    private boolean pathMatches(String pattern, String actualPath) {
-        StringBuilder regex = new StringBuilder("^");
-        int segmentStart = 0;
-        int openBrace;
-        while ((openBrace = pattern.indexOf('{', segmentStart)) >= 0) {
-            int closeBrace = pattern.indexOf('}', openBrace);
-            if (closeBrace < 0) {
-                break;
-            }
-            regex.append(Pattern.quote(pattern.substring(segmentStart, openBrace)));
-            regex.append("[^/]+");
-            segmentStart = closeBrace + 1;
-        }
-        regex.append(Pattern.quote(pattern.substring(segmentStart)));
-        regex.append("$");
-        return actualPath.matches(regex.toString());
-    }
-
     private ActivityReminderDTO mapToDTO(ActivityReminder reminder) {
         return ActivityReminderDTO.builder()
                 .id(reminder.getId())
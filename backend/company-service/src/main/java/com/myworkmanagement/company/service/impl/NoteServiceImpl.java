@@ -5,7 +5,9 @@ import com.myworkmanagement.company.entity.Note;
 import com.myworkmanagement.company.exception.ResourceNotFoundException;
 import com.myworkmanagement.company.repository.NoteRepository;
 import com.myworkmanagement.company.service.NoteService;
+import com.myworkmanagement.company.service.UserDataChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +22,7 @@ import java.time.LocalDateTime;
 public class NoteServiceImpl implements NoteService {
 
     private final NoteRepository noteRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -39,7 +42,9 @@ public class NoteServiceImpl implements NoteService {
                 .readTick(Boolean.FALSE)
                 .readDate(null)
                 .build();
-        return mapToDTO(noteRepository.save(note));
+        NoteDTO saved = mapToDTO(noteRepository.save(note));
+        eventPublisher.publishEvent(new UserDataChangedEvent(userEmail, UserDataChangedEvent.Topic.NOTES));
+        return saved;
     }
 
     @Override
@@ -50,7 +55,9 @@ public class NoteServiceImpl implements NoteService {
 
         note.setReadTick(readTick);
         note.setReadDate(readTick ? LocalDateTime.now() : null);
-        return mapToDTO(noteRepository.save(note));
+        NoteDTO saved = mapToDTO(noteRepository.save(note));
+        eventPublisher.publishEvent(new UserDataChangedEvent(userEmail, UserDataChangedEvent.Topic.NOTES));
+        return saved;
     }
 
     @Override
@@ -59,6 +66,7 @@ public class NoteServiceImpl implements NoteService {
         Note note = noteRepository.findByIdAndUserEmail(noteId, userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Note not found with id: " + noteId));
         noteRepository.delete(note);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userEmail, UserDataChangedEvent.Topic.NOTES));
     }
 
     @Override
@@ -17,7 +17,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,15 +39,13 @@ public class ProjectServiceImpl implements ProjectService {
         if (!companyRepository.existsById(companyId)) {
             throw new ResourceNotFoundException("Company not found with id: " + companyId);
         }
-        return projectRepository.findByCompanyId(companyId, pageable)
-                .map(this::mapToDTO);
+        return mapToDTOs(projectRepository.findByCompanyId(companyId, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ProjectDTO> getAllProjectsByUserEmail(String userEmail, Pageable pageable) {
-        return projectRepository.findAllByUserEmail(userEmail, pageable)
-                .map(this::mapToDTO);
+        return mapToDTOs(projectRepository.findAllByUserEmail(userEmail, pageable));
     }
 
     @Override
@@ -97,14 +98,30 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     @Transactional(readOnly = true)
     public Page<ProjectDTO> searchProjects(Long companyId, String searchTerm, Pageable pageable) {
-        return projectRepository.findByCompanyIdAndNameContainingOrDescriptionContaining(companyId, searchTerm, searchTerm, pageable)
-                .map(this::mapToDTO);
+        return mapToDTOs(projectRepository.findByCompanyIdAndNameContainingOrDescriptionContaining(companyId, searchTerm, searchTerm, pageable));
     }
 
     private ProjectDTO mapToDTO(Project project) {
         List<Long> contractIds = contractRepository.findByProjectId(project.getId())
                 .stream().map(Contract::getId).collect(Collectors.toList());
+        return mapToDTO(project, contractIds);
+    }
+
+    /**
+     * Maps a page of projects, loading the contract IDs of the whole page with one query.
+     */
+    private Page<ProjectDTO> mapToDTOs(Page<Project> projects) {
+        Map<Long, List<Long>> contractIdsByProjectId = new HashMap<>();
+        if (projects.hasContent()) {
+            List<Long> projectIds = projects.stream().map(Project::getId).collect(Collectors.toList());
+            for (Object[] row : contractRepository.findProjectContractIdPairsByProjectIds(projectIds)) {
+                contractIdsByProjectId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Long) row[1]);
+            }
+        }
+        return projects.map(project -> mapToDTO(project, contractIdsByProjectId.getOrDefault(project.getId(), List.of())));
+    }
 
+    private ProjectDTO mapToDTO(Project project, List<Long> contractIds) {
         return ProjectDTO.builder()
                 .id(project.getId())
                 .companyId(project.getCompany().getId())
@@ -0,0 +1,273 @@
+package com.myworkmanagement.company.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myworkmanagement.company.entity.SheetSyncIntent;
+import com.myworkmanagement.company.entity.SheetSyncOperation;
+import com.myworkmanagement.company.repository.SheetSyncIntentRepository;
+import com.myworkmanagement.company.service.SheetRowChange;
+import com.myworkmanagement.company.service.SheetSyncOutboxService;
+import com.myworkmanagement.company.service.SheetsSyncPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SheetSyncOutboxServiceImpl implements SheetSyncOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SheetSyncOutboxServiceImpl.class);
+
+    private final SheetSyncIntentRepository sheetSyncIntentRepository;
+    private final SheetsSyncPort sheetsSyncPort;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${google.sheets.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${google.sheets.outbox.initial-backoff-ms:5000}")
+    private long initialBackoffMs;
+
+    @Value("${google.sheets.outbox.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+
+    @Value("${google.sheets.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    // Backoff is global: the sheet is a single destination and quota errors affect every ticket alike
+    private int consecutiveFailures;
+    private long nextAttemptAt;
+    // Serializes flushes, held across their database and Sheets calls
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(SheetSyncOperation operation, String ticketId, List<Object> rowData) {
+        try {
+            sheetSyncIntentRepository.save(SheetSyncIntent.builder()
+                    .ticketId(ticketId)
+                    .operation(operation)
+                    .rowData(rowData != null ? objectMapper.writeValueAsString(rowData) : null)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize sheet row for ticket " + ticketId, e);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${google.sheets.outbox.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (System.currentTimeMillis() < nextAttemptAt) {
+                return;
+            }
+
+            List<SheetSyncIntent> intents = sheetSyncIntentRepository.findByDeadLetteredAtIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+            if (intents.isEmpty()) {
+                return;
+            }
+
+            Collection<TicketChange> ticketChanges = coalesce(intents).values();
+            List<SheetRowChange> changes = ticketChanges.stream()
+                    .map(TicketChange::getChange)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            try {
+                apply(changes);
+            } catch (Exception e) {
+                if (changes.size() > 1) {
+                    logger.warn("Failed to sync {} row changes to Google Sheets as one batch, applying them one by one: {}",
+                            changes.size(), e.getMessage());
+                    applyOneByOne(ticketChanges);
+                } else {
+                    ticketChanges.stream()
+                            .filter(ticketChange -> ticketChange.getChange() != null)
+                            .findFirst()
+                            .ifPresent(ticketChange -> recordFailure(ticketChange, e));
+                }
+                return;
+            }
+            sheetSyncIntentRepository.deleteAllByIdInBatch(idsOf(intents));
+            consecutiveFailures = 0;
+            nextAttemptAt = 0;
+            logger.debug("Flushed {} sheet sync intents as {} row changes", intents.size(), changes.size());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Applies the tickets one at a time, in order, to find the one the batch failed on. The intents of the tickets
+     * applied before it are removed; the failing ticket is charged a failed attempt and the rest wait for the next flush,
+     * so a ticket the sheet keeps rejecting holds the others back only until it is dead-lettered.
+     */
+    private void applyOneByOne(Collection<TicketChange> ticketChanges) {
+        List<Long> appliedIds = new ArrayList<>();
+        try {
+            for (TicketChange ticketChange : ticketChanges) {
+                if (ticketChange.getChange() != null) {
+                    try {
+                        apply(List.of(ticketChange.getChange()));
+                    } catch (Exception e) {
+                        recordFailure(ticketChange, e);
+                        return;
+                    }
+                }
+                appliedIds.addAll(idsOf(ticketChange.getIntents()));
+            }
+            consecutiveFailures = 0;
+            nextAttemptAt = 0;
+        } finally {
+            if (!appliedIds.isEmpty()) {
+                sheetSyncIntentRepository.deleteAllByIdInBatch(appliedIds);
+            }
+        }
+    }
+
+    private void apply(List<SheetRowChange> changes) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timer.Sample sample = Timer.start();
+        String outcome = "failure";
+        try {
+            sheetsSyncPort.applyChanges(changes);
+            outcome = "success";
+        } finally {
+            sample.stop(Timer.builder("sheets.sync.apply")
+                    .description("Time spent applying a batch of row changes to the task sheet")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            meterRegistry.summary("sheets.sync.batch.size").record(changes.size());
+        }
+    }
+
+    private void recordFailure(TicketChange ticketChange, Exception e) {
+        consecutiveFailures++;
+        long backoff = Math.min(maxBackoffMs, initialBackoffMs << Math.min(consecutiveFailures - 1, 20));
+        nextAttemptAt = System.currentTimeMillis() + backoff;
+        String ticketId = ticketChange.getChange().getTicketId();
+        logger.error("Failed to sync ticket {} to Google Sheets (attempt {}), retrying in {} ms: {}",
+                ticketId, consecutiveFailures, backoff, e.getMessage());
+
+        List<SheetSyncIntent> intents = ticketChange.getIntents();
+        sheetSyncIntentRepository.recordFailedAttempt(idsOf(intents), e.getMessage());
+        List<Long> exhaustedIds = intents.stream()
+                .filter(intent -> intent.getAttempts() + 1 >= maxAttempts)
+                .map(SheetSyncIntent::getId)
+                .collect(Collectors.toList());
+        if (!exhaustedIds.isEmpty()) {
+            sheetSyncIntentRepository.markDeadLettered(exhaustedIds);
+            meterRegistry.counter("sheets.sync.dead.lettered").increment(exhaustedIds.size());
+            logger.error("Dead-lettered {} sheet sync intents of ticket {} after {} failed attempts",
+                    exhaustedIds.size(), ticketId, maxAttempts);
+        }
+    }
+
+    private static List<Long> idsOf(List<SheetSyncIntent> intents) {
+        return intents.stream().map(SheetSyncIntent::getId).collect(Collectors.toList());
+    }
+
+    /**
+     * Folds the intents of each ticket, in order, into the single change that leaves the sheet in the final state.
+     * A row added and deleted within the batch is dropped; a row added and then updated is added with the latest values.
+     * Changes are ordered by the last intent of each ticket.
+     */
+    private Map<String, TicketChange> coalesce(List<SheetSyncIntent> intents) {
+        Map<String, TicketChange> changesByTicket = new LinkedHashMap<>();
+        for (SheetSyncIntent intent : intents) {
+            String ticketId = intent.getTicketId();
+            if (ticketId == null || ticketId.isEmpty()) {
+                // Rows without a ticket can only be added, they cannot be looked up again
+                TicketChange ticketChange = new TicketChange();
+                ticketChange.getIntents().add(intent);
+                if (intent.getOperation() == SheetSyncOperation.ADD) {
+                    ticketChange.setChange(new SheetRowChange(ticketId, SheetSyncOperation.ADD, readRow(intent)));
+                }
+                changesByTicket.put("#" + intent.getId(), ticketChange);
+                continue;
+            }
+
+            TicketChange ticketChange = changesByTicket.remove(ticketId);
+            if (ticketChange == null) {
+                ticketChange = new TicketChange();
+            }
+            ticketChange.getIntents().add(intent);
+            SheetRowChange previous = ticketChange.getChange();
+            SheetSyncOperation previousOperation = previous != null ? previous.getOperation() : null;
+            SheetRowChange next;
+            switch (intent.getOperation()) {
+                case ADD:
+                    // Deleted then re-added: the row is still in the sheet, overwrite it
+                    next = new SheetRowChange(ticketId,
+                            previousOperation == SheetSyncOperation.DELETE ? SheetSyncOperation.UPDATE : SheetSyncOperation.ADD,
+                            readRow(intent));
+                    break;
+                case UPDATE:
+                    if (previousOperation == SheetSyncOperation.DELETE) {
+                        next = previous;
+                    } else {
+                        next = new SheetRowChange(ticketId,
+                                previousOperation == SheetSyncOperation.ADD ? SheetSyncOperation.ADD : SheetSyncOperation.UPDATE,
+                                readRow(intent));
+                    }
+                    break;
+                case DELETE:
+                    // A row added within this batch never reached the sheet
+                    next = previousOperation == SheetSyncOperation.ADD
+                            ? null
+                            : new SheetRowChange(ticketId, SheetSyncOperation.DELETE, null);
+                    break;
+                default:
+                    next = previous;
+            }
+            ticketChange.setChange(next);
+            changesByTicket.put(ticketId, ticketChange);
+        }
+        return changesByTicket;
+    }
+
+    private List<Object> readRow(SheetSyncIntent intent) {
+        if (intent.getRowData() == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(intent.getRowData(), new TypeReference<List<Object>>() {});
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read sheet row of outbox intent " + intent.getId(), e);
+        }
+    }
+
+    /**
+     * Net change of one ticket and the intents folded into it; the change is null when the intents cancel out.
+     */
+    @Getter
+    @Setter
+    private static class TicketChange {
+        private final List<SheetSyncIntent> intents = new ArrayList<>();
+        private SheetRowChange change;
+    }
+}
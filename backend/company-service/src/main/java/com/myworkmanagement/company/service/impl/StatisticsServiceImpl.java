@@ -9,7 +9,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,32 +24,39 @@ public class StatisticsServiceImpl implements StatisticsService {
 
     @Override
     public List<CompanyProjectStatsDTO> getCompanyProjectStats(String userEmail) {
+        // Totals of every company come from two grouped queries instead of seven queries per company
+        Map<Long, Object[]> taskTotalsByCompanyId = new HashMap<>();
+        for (Object[] row : taskRepository.sumTotalsByCompanyUserEmail(userEmail)) {
+            taskTotalsByCompanyId.put((Long) row[0], row);
+        }
+        Map<Long, Long> projectCountByCompanyId = new HashMap<>();
+        Map<Long, String> currencyByCompanyId = new HashMap<>();
+        for (Object[] row : projectRepository.findCompanyCurrenciesByCompanyUserEmail(userEmail)) {
+            Long companyId = (Long) row[0];
+            projectCountByCompanyId.merge(companyId, 1L, Long::sum);
+            // The first project's currency is the company's, defaulting to 'EUR'
+            currencyByCompanyId.putIfAbsent(companyId, row[1] != null ? (String) row[1] : "EUR");
+        }
+
         return companyRepository.findAllByUserEmail(userEmail, null).getContent().stream()
                 .map(company -> {
-                    Long taskCount = taskRepository.countByCompanyId(company.getId());
-                    Integer totalHours = taskRepository.sumHoursByCompanyId(company.getId());
-                    BigDecimal totalAmount = taskRepository.sumAmountByCompanyId(company.getId());
-                    BigDecimal totalToBeBilledAmount = taskRepository.sumAmountByCompanyIdAndIsBilled(company.getId(), false);
-                    BigDecimal totalToBePaidAmount = taskRepository.sumAmountByCompanyIdAndIsPaid(company.getId(), false);
-                    // Get the first project's currency for the company, or default to 'EUR'
-                    String currency = projectRepository.findByCompanyId(company.getId(), org.springframework.data.domain.PageRequest.of(0, 1))
-                        .stream()
-                        .findFirst()
-                        .map(project -> project.getCurrency() != null ? project.getCurrency() : "EUR")
-                        .orElse("EUR");
-                    
+                    Object[] totals = taskTotalsByCompanyId.get(company.getId());
                     return CompanyProjectStatsDTO.builder()
                             .companyId(company.getId())
                             .companyName(company.getName())
-                            .projectCount(projectRepository.countByCompanyId(company.getId()))
-                            .taskCount(taskCount)
-                            .totalHours(totalHours != null ? totalHours : 0)
-                            .totalAmount(totalAmount != null ? totalAmount : BigDecimal.ZERO)
-                            .totalToBeBilledAmount(totalToBeBilledAmount != null ? totalToBeBilledAmount : BigDecimal.ZERO)
-                            .totalToBePaidAmount(totalToBePaidAmount != null ? totalToBePaidAmount : BigDecimal.ZERO)
-                            .currency(currency)
+                            .projectCount(projectCountByCompanyId.getOrDefault(company.getId(), 0L))
+                            .taskCount(totals != null ? (Long) totals[1] : 0L)
+                            .totalHours(totals != null ? ((Number) totals[2]).intValue() : 0)
+                            .totalAmount(totals != null ? toBigDecimal(totals[3]) : BigDecimal.ZERO)
+                            .totalToBeBilledAmount(totals != null ? toBigDecimal(totals[4]) : BigDecimal.ZERO)
+                            .totalToBePaidAmount(totals != null ? toBigDecimal(totals[5]) : BigDecimal.ZERO)
+                            .currency(currencyByCompanyId.getOrDefault(company.getId(), "EUR"))
                             .build();
                 })
                 .collect(Collectors.toList());
     }
-} 
\ No newline at end of file
+
+    private static BigDecimal toBigDecimal(Object value) {
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+}
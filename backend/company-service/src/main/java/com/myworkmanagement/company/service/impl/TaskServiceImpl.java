@@ -8,6 +8,7 @@ import com.myworkmanagement.company.entity.Client;
 import com.myworkmanagement.company.entity.Contract;
 import com.myworkmanagement.company.entity.ContractStatus;
 import com.myworkmanagement.company.entity.Project;
+import com.myworkmanagement.company.entity.SheetSyncOperation;
 import com.myworkmanagement.company.entity.Task;
 import com.myworkmanagement.company.entity.TaskContractUsage;
 import com.myworkmanagement.company.exception.ResourceNotFoundException;
@@ -18,7 +19,7 @@ import com.myworkmanagement.company.repository.ContractRepository;
 import com.myworkmanagement.company.repository.ProjectRepository;
 import com.myworkmanagement.company.repository.TaskContractUsageRepository;
 import com.myworkmanagement.company.repository.TaskRepository;
-import com.myworkmanagement.company.service.GoogleSheetsService;
+import com.myworkmanagement.company.service.SheetSyncOutboxService;
 import com.myworkmanagement.company.service.TaskService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -34,8 +35,12 @@ import java.time.LocalDate;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -47,7 +52,7 @@ public class TaskServiceImpl implements TaskService {
     private final ClientRepository clientRepository;
     private final ContractRepository contractRepository;
     private final TaskContractUsageRepository taskContractUsageRepository;
-    private final GoogleSheetsService googleSheetsService;
+    private final SheetSyncOutboxService sheetSyncOutboxService;
     private static final Logger logger = LoggerFactory.getLogger(TaskServiceImpl.class);
     private static final SecureRandom random = new SecureRandom();
     private static final String ALPHANUMERIC_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
@@ -108,12 +113,8 @@ public class TaskServiceImpl implements TaskService {
                 .build();
 
         Task savedTask = taskRepository.save(task);
-        // Sync to Google Sheets
-        try {
-            googleSheetsService.addTaskRow(mapTaskToSheetRow(savedTask));
-        } catch (Exception e) {
-            logger.error("Failed to add task to Google Sheets: {}", e.getMessage());
-        }
+        // Sync to Google Sheets through the outbox, committed together with the task
+        sheetSyncOutboxService.enqueue(SheetSyncOperation.ADD, savedTask.getTicketId(), mapTaskToSheetRow(savedTask));
         return convertToDTO(savedTask);
     }
 
@@ -156,12 +157,8 @@ public class TaskServiceImpl implements TaskService {
         task.setUserEmail(taskDTO.getUserEmail());
 
         Task updatedTask = taskRepository.save(task);
-        // Sync to Google Sheets
-        try {
-            googleSheetsService.updateTaskRowByTicketId(updatedTask.getTicketId(), mapTaskToSheetRow(updatedTask));
-        } catch (Exception e) {
-            logger.error("Failed to update task in Google Sheets: {}", e.getMessage());
-        }
+        // Sync to Google Sheets through the outbox, committed together with the task
+        sheetSyncOutboxService.enqueue(SheetSyncOperation.UPDATE, updatedTask.getTicketId(), mapTaskToSheetRow(updatedTask));
         return convertToDTO(updatedTask);
     }
 
@@ -181,13 +178,9 @@ public class TaskServiceImpl implements TaskService {
         String ticketId = task.getTicketId();
         // Delete from DB first
         taskRepository.deleteById(id);
-        // Sync to Google Sheets
-        try {
-            if (ticketId != null && !ticketId.isEmpty()) {
-                googleSheetsService.deleteTaskRowByTicketId(ticketId);
-            }
-        } catch (Exception e) {
-            logger.error("Failed to delete task from Google Sheets: {}", e.getMessage());
+        // Sync to Google Sheets through the outbox, committed together with the deletion
+        if (ticketId != null && !ticketId.isEmpty()) {
+            sheetSyncOutboxService.enqueue(SheetSyncOperation.DELETE, ticketId, null);
         }
     }
 
@@ -196,11 +189,9 @@ public class TaskServiceImpl implements TaskService {
     public Page<TaskDTO> getTasksByUserEmail(String userEmail, Pageable pageable, String search) {
         if (search != null && !search.trim().isEmpty()) {
             String searchTerm = search.toLowerCase();
-            return taskRepository.findByUserEmailAndSearch(userEmail, searchTerm, searchTerm, searchTerm, searchTerm, pageable)
-                    .map(this::convertToDTO);
+            return convertPage(taskRepository.findByUserEmailAndSearch(userEmail, searchTerm, searchTerm, searchTerm, searchTerm, pageable));
         } else {
-            return taskRepository.findByUserEmail(userEmail, pageable)
-                    .map(this::convertToDTO);
+            return convertPage(taskRepository.findByUserEmail(userEmail, pageable));
         }
     }
 
@@ -300,7 +291,7 @@ public class TaskServiceImpl implements TaskService {
             }
         }
         
-        return tasks.map(this::convertToDTO);
+        return convertPage(tasks);
     }
 
     // Not used in TaskController - controller uses the 7-parameter version with all filters
@@ -377,7 +368,7 @@ public class TaskServiceImpl implements TaskService {
                 filteredContent.size()
             );
             
-            return filteredTasks.map(this::convertToDTO);
+            return convertPage(filteredTasks);
         } else {
             // No in-memory filtering needed, use standard pagination
             if (search != null && !search.trim().isEmpty()) {
@@ -386,43 +377,38 @@ public class TaskServiceImpl implements TaskService {
             } else {
                 tasks = taskRepository.findByUserEmailAndProjectId(userEmail, projectId, pageable);
             }
-            return tasks.map(this::convertToDTO);
+            return convertPage(tasks);
         }
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TaskDTO> getTasksByProjectAndDateRange(Long projectId, LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        return taskRepository.findByProjectIdAndStartDateBetween(projectId, startDate, endDate, pageable)
-                .map(this::convertToDTO);
+        return convertPage(taskRepository.findByProjectIdAndStartDateBetween(projectId, startDate, endDate, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TaskDTO> getUnbilledTasks(Pageable pageable) {
-        return taskRepository.findByIsBilledFalse(pageable)
-                .map(this::convertToDTO);
+        return convertPage(taskRepository.findByIsBilledFalse(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TaskDTO> getUnpaidTasks(Pageable pageable) {
-        return taskRepository.findByIsPaidFalse(pageable)
-                .map(this::convertToDTO);
+        return convertPage(taskRepository.findByIsPaidFalse(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TaskDTO> getUnbilledTasksByProject(Long projectId, Pageable pageable) {
-        return taskRepository.findByProjectIdAndIsBilledFalse(projectId, pageable)
-                .map(this::convertToDTO);
+        return convertPage(taskRepository.findByProjectIdAndIsBilledFalse(projectId, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TaskDTO> getUnpaidTasksByProject(Long projectId, Pageable pageable) {
-        return taskRepository.findByProjectIdAndIsPaidFalse(projectId, pageable)
-                .map(this::convertToDTO);
+        return convertPage(taskRepository.findByProjectIdAndIsPaidFalse(projectId, pageable));
     }
 
     @Override
@@ -430,50 +416,56 @@ public class TaskServiceImpl implements TaskService {
     public Page<TaskDTO> getTasksByUserEmailAndProject(String userEmail, Long projectId, Pageable pageable, String search) {
         if (search != null && !search.trim().isEmpty()) {
             String searchTerm = search.toLowerCase();
-            return taskRepository.findByUserEmailAndFilters(userEmail, projectId, null, null, null, searchTerm, pageable)
-                    .map(this::convertToDTO);
+            return convertPage(taskRepository.findByUserEmailAndFilters(userEmail, projectId, null, null, null, searchTerm, pageable));
         } else {
-            return taskRepository.findByUserEmailAndProjectId(userEmail, projectId, pageable)
-                    .map(this::convertToDTO);
+            return convertPage(taskRepository.findByUserEmailAndProjectId(userEmail, projectId, pageable));
         }
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TaskDTO> getUnbilledTasksByUserEmail(String userEmail, Pageable pageable) {
-        return taskRepository.findByUserEmailAndIsBilledFalse(userEmail, pageable)
-                .map(this::convertToDTO);
+        return convertPage(taskRepository.findByUserEmailAndIsBilledFalse(userEmail, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TaskDTO> getUnpaidTasksByUserEmail(String userEmail, Pageable pageable) {
-        return taskRepository.findByUserEmailAndIsPaidFalse(userEmail, pageable)
-                .map(this::convertToDTO);
+        return convertPage(taskRepository.findByUserEmailAndIsPaidFalse(userEmail, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TaskDTO> getUnbilledTasksByUserEmailAndProject(String userEmail, Long projectId, Pageable pageable) {
-        return taskRepository.findByUserEmailAndProjectIdAndIsBilledFalse(userEmail, projectId, pageable)
-                .map(this::convertToDTO);
+        return convertPage(taskRepository.findByUserEmailAndProjectIdAndIsBilledFalse(userEmail, projectId, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TaskDTO> getUnpaidTasksByUserEmailAndProject(String userEmail, Long projectId, Pageable pageable) {
-        return taskRepository.findByUserEmailAndProjectIdAndIsPaidFalse(userEmail, projectId, pageable)
-                .map(this::convertToDTO);
+        return convertPage(taskRepository.findByUserEmailAndProjectIdAndIsPaidFalse(userEmail, projectId, pageable));
     }
 
     @Override
     @Transactional
     public List<TaskDTO> updateTasksBillingStatus(List<TaskBillingStatusUpdateDTO> taskUpdates) {
+        Map<Long, Task> tasksById = findTasksById(taskUpdates.stream()
+                .map(TaskBillingStatusUpdateDTO::getTaskId)
+                .collect(Collectors.toList()));
+        Map<Long, List<TaskContractUsage>> usagesByTaskId = findUsagesByTaskId(tasksById.values());
+        // Shared by every task of the request, so one task's deduction is seen by the next
+        Map<Long, List<Contract>> openContractsByProjectId = findOpenContractsByProjectId(taskUpdates.stream()
+                .filter(update -> Boolean.TRUE.equals(update.getIsBilled()) && tasksById.containsKey(update.getTaskId()))
+                .map(update -> tasksById.get(update.getTaskId()).getProject().getId())
+                .collect(Collectors.toSet()));
+
         List<TaskDTO> updatedTasks = new ArrayList<>();
 
         for (TaskBillingStatusUpdateDTO update : taskUpdates) {
-            Task task = taskRepository.findById(update.getTaskId())
-                .orElseThrow(() -> new TaskBillingStatusException("Task not found with id: " + update.getTaskId()));
+            Task task = tasksById.get(update.getTaskId());
+            if (task == null) {
+                throw new TaskBillingStatusException("Task not found with id: " + update.getTaskId());
+            }
             
             boolean wasBilled = Boolean.TRUE.equals(task.getIsBilled());
             boolean nowBilled = Boolean.TRUE.equals(update.getIsBilled());
@@ -484,37 +476,31 @@ public class TaskServiceImpl implements TaskService {
             Task savedTask = taskRepository.save(task);
 
             if (nowBilled && !wasBilled) {
-                allocateTaskCostToContracts(savedTask);
+                usagesByTaskId.put(savedTask.getId(), allocateTaskCostToContracts(savedTask,
+                        openContractsByProjectId.getOrDefault(savedTask.getProject().getId(), List.of())));
             } else if (!nowBilled && wasBilled) {
-                reverseTaskContractUsages(savedTask);
+                reverseTaskContractUsages(usagesByTaskId.remove(savedTask.getId()));
             }
 
-            updatedTasks.add(convertToDTO(savedTask));
+            updatedTasks.add(convertToDTO(savedTask, usagesByTaskId.get(savedTask.getId())));
 
-            googleSheetsService.updateTaskRowByTicketId(savedTask.getTicketId(), mapTaskToSheetRow(savedTask))
-            .exceptionally(ex -> {
-                logger.error("Failed to update task in Google Sheets: {}", ex.getMessage());
-                return null;
-            });
+            sheetSyncOutboxService.enqueue(SheetSyncOperation.UPDATE, savedTask.getTicketId(), mapTaskToSheetRow(savedTask));
         }
 
         return updatedTasks;
     }
 
-    private void allocateTaskCostToContracts(Task task) {
+    /**
+     * Deducts the task cost from the project's open contracts in order and returns the usages created.
+     */
+    private List<TaskContractUsage> allocateTaskCostToContracts(Task task, List<Contract> openContracts) {
         BigDecimal hours = task.getHoursWorked() != null ? task.getHoursWorked() : BigDecimal.ZERO;
         BigDecimal rate = task.getRateUsed() != null ? task.getRateUsed() : BigDecimal.ZERO;
         BigDecimal taskCost = hours.multiply(rate);
 
+        List<TaskContractUsage> usages = new ArrayList<>();
         if (taskCost.compareTo(BigDecimal.ZERO) <= 0) {
-            return;
-        }
-
-        List<Contract> openContracts = contractRepository.findByProjectIdAndStatus(
-                task.getProject().getId(), ContractStatus.OPEN);
-
-        if (openContracts.isEmpty()) {
-            return;
+            return usages;
         }
 
         BigDecimal remaining = taskCost;
@@ -523,6 +509,10 @@ public class TaskServiceImpl implements TaskService {
             if (remaining.compareTo(BigDecimal.ZERO) <= 0) {
                 break;
             }
+            // Exhausted by an earlier task of the same request
+            if (contract.getStatus() != ContractStatus.OPEN) {
+                continue;
+            }
 
             BigDecimal available = contract.getAmountAvailable();
             BigDecimal deduction = remaining.min(available);
@@ -540,14 +530,17 @@ public class TaskServiceImpl implements TaskService {
                     .amountUsed(deduction)
                     .contractCode(contract.getCode())
                     .build();
-            taskContractUsageRepository.save(usage);
+            usages.add(taskContractUsageRepository.save(usage));
 
             remaining = remaining.subtract(deduction);
         }
+        return usages;
     }
 
-    private void reverseTaskContractUsages(Task task) {
-        List<TaskContractUsage> usages = taskContractUsageRepository.findByTaskId(task.getId());
+    private void reverseTaskContractUsages(List<TaskContractUsage> usages) {
+        if (usages == null || usages.isEmpty()) {
+            return;
+        }
         for (TaskContractUsage usage : usages) {
             Contract contract = usage.getContract();
             contract.setAmountAvailable(contract.getAmountAvailable().add(usage.getAmountUsed()));
@@ -557,34 +550,74 @@ public class TaskServiceImpl implements TaskService {
             }
             contractRepository.save(contract);
         }
-        taskContractUsageRepository.deleteByTaskId(task.getId());
+        taskContractUsageRepository.deleteAll(usages);
     }
 
     @Override
     @Transactional
     public List<TaskDTO> updateTasksPaymentStatus(List<TaskPaymentStatusUpdateDTO> taskUpdates) {
+        Map<Long, Task> tasksById = findTasksById(taskUpdates.stream()
+                .map(TaskPaymentStatusUpdateDTO::getTaskId)
+                .collect(Collectors.toList()));
+        Map<Long, List<TaskContractUsage>> usagesByTaskId = findUsagesByTaskId(tasksById.values());
+
         List<TaskDTO> updatedTasks = new ArrayList<>();
         
         for (TaskPaymentStatusUpdateDTO update : taskUpdates) {
-            Task task = taskRepository.findById(update.getTaskId())
-                .orElseThrow(() -> new TaskPaymentStatusException("Task not found with id: " + update.getTaskId()));
+            Task task = tasksById.get(update.getTaskId());
+            if (task == null) {
+                throw new TaskPaymentStatusException("Task not found with id: " + update.getTaskId());
+            }
             
             task.setIsPaid(update.getIsPaid());
             task.setPaymentDate(update.getIsPaid()?update.getPaymentDate():null);
             Task savedTask = taskRepository.save(task);
-            updatedTasks.add(convertToDTO(savedTask));
+            updatedTasks.add(convertToDTO(savedTask, usagesByTaskId.get(savedTask.getId())));
 
-            googleSheetsService.updateTaskRowByTicketId(savedTask.getTicketId(), mapTaskToSheetRow(savedTask))
-            .exceptionally(ex -> {
-                logger.error("Failed to update task in Google Sheets: {}", ex.getMessage());
-                return null;
-            });
+            sheetSyncOutboxService.enqueue(SheetSyncOperation.UPDATE, savedTask.getTicketId(), mapTaskToSheetRow(savedTask));
         }
         
         return updatedTasks;
     }
 
+    private Map<Long, Task> findTasksById(Collection<Long> ids) {
+        return taskRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private Map<Long, List<TaskContractUsage>> findUsagesByTaskId(Collection<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return new HashMap<>();
+        }
+        return taskContractUsageRepository.findByTaskIdIn(tasks.stream().map(Task::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(u -> u.getTask().getId(), HashMap::new, Collectors.toList()));
+    }
+
+    private Map<Long, List<Contract>> findOpenContractsByProjectId(Collection<Long> projectIds) {
+        Map<Long, List<Contract>> contractsByProjectId = new HashMap<>();
+        if (projectIds.isEmpty()) {
+            return contractsByProjectId;
+        }
+        for (Object[] row : contractRepository.findProjectContractPairsByProjectIdsAndStatus(projectIds, ContractStatus.OPEN)) {
+            contractsByProjectId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Contract) row[1]);
+        }
+        return contractsByProjectId;
+    }
+
+    /**
+     * Maps a page of tasks, loading the contract usages of the whole page with one query.
+     */
+    private Page<TaskDTO> convertPage(Page<Task> tasks) {
+        Map<Long, List<TaskContractUsage>> usagesByTaskId = findUsagesByTaskId(tasks.getContent());
+        return tasks.map(task -> convertToDTO(task, usagesByTaskId.get(task.getId())));
+    }
+
     private TaskDTO convertToDTO(Task task) {
+        return convertToDTO(task, taskContractUsageRepository.findByTaskId(task.getId()));
+    }
+
+    private TaskDTO convertToDTO(Task task, List<TaskContractUsage> usages) {
         TaskDTO.TaskDTOBuilder builder = TaskDTO.builder()
                 .id(task.getId())
                 .projectId(task.getProject().getId())
@@ -614,7 +647,6 @@ public class TaskServiceImpl implements TaskService {
                    .clientName(task.getClient().getName());
         }
 
-        List<TaskContractUsage> usages = taskContractUsageRepository.findByTaskId(task.getId());
         if (usages != null && !usages.isEmpty()) {
             builder.contractUsages(usages.stream()
                     .map(u -> TaskContractUsageDTO.builder()
@@ -660,10 +692,7 @@ public class TaskServiceImpl implements TaskService {
             final String candidateTaskId = "TSK-" + year + "-" + randomPart.toString();
             
             // Check if ticketId already exists
-            boolean exists = taskRepository.findAll().stream()
-                    .anyMatch(t -> candidateTaskId.equals(t.getTicketId()));
-            
-            if (!exists) {
+            if (!taskRepository.existsByTicketId(candidateTaskId)) {
                 return candidateTaskId;
             }
             attempts++;
@@ -0,0 +1,12 @@
+-- Pending Google Sheets sync intents, written in the same transaction as the task change
+-- and flushed in coalesced batches by the outbox flusher
+CREATE TABLE IF NOT EXISTS sheet_sync_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    ticket_id VARCHAR(255) NULL,
+    operation VARCHAR(10) NOT NULL,
+    row_data TEXT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error TEXT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_sheet_sync_outbox_operation CHECK (operation IN ('ADD', 'UPDATE', 'DELETE'))
+);
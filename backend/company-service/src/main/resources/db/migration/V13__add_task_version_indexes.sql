@@ -0,0 +1,4 @@
+-- Row count and latest updated_at of a user's tasks back the ETags of the task list, statistics and costs endpoints;
+-- these indexes let both be answered with an index-only scan instead of reading the tasks
+CREATE INDEX IF NOT EXISTS idx_tasks_user_email_updated_at ON public.tasks USING btree (user_email, updated_at);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_id_updated_at ON public.tasks USING btree (project_id, updated_at);
@@ -0,0 +1,5 @@
+-- Task type (EVOLUTIVA, CORRETTIVA) is mapped by the Task entity but was never part of the schema scripts,
+-- so databases created from init.sql failed schema validation
+ALTER TABLE public.tasks ADD COLUMN IF NOT EXISTS type VARCHAR(10) NULL;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_type ON public.tasks USING btree (type);
@@ -0,0 +1,8 @@
+-- task_contract_usages and sheet_sync_outbox ids are allocated by Hibernate in blocks of 50 (pooled optimizer)
+-- so their inserts can be batched. The sequences step by the block size, and are moved past the existing ids
+-- because a block ends at the value returned by nextval.
+ALTER SEQUENCE public.task_contract_usages_id_seq INCREMENT BY 50;
+SELECT setval('public.task_contract_usages_id_seq', GREATEST(COALESCE(MAX(id), 0), 1)) FROM public.task_contract_usages;
+
+ALTER SEQUENCE public.sheet_sync_outbox_id_seq INCREMENT BY 50;
+SELECT setval('public.sheet_sync_outbox_id_seq', GREATEST(COALESCE(MAX(id), 0), 1)) FROM public.sheet_sync_outbox;
@@ -0,0 +1,5 @@
+-- Intents that keep failing are dead-lettered instead of being retried forever ahead of the newer ones.
+-- They stay in the table for inspection; clearing dead_lettered_at and attempts re-queues them.
+ALTER TABLE sheet_sync_outbox ADD COLUMN IF NOT EXISTS dead_lettered_at TIMESTAMP NULL;
+
+CREATE INDEX IF NOT EXISTS idx_sheet_sync_outbox_pending ON sheet_sync_outbox USING btree (id) WHERE dead_lettered_at IS NULL;
@@ -0,0 +1,50 @@
+package com.myworkmanagement.company;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Base class of the integration tests: the full application against an embedded PostgreSQL.
+ * The database is created like a deployed one, {@code db/init.sql} first and then the Flyway migrations,
+ * and Flyway also applies the synthetic data set in {@code db/testdata}. One server is shared by every test class.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public abstract class PostgresIntegrationTest {
+
+    protected static final String USER_EMAIL = "seed.user@example.com";
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.start();
+            String initScript = new ClassPathResource("db/init.sql").getContentAsString(StandardCharsets.UTF_8);
+            try (Connection connection = postgres.getPostgresDatabase().getConnection();
+                 Statement statement = connection.createStatement()) {
+                // Sent as one simple-protocol batch so the $$-quoted function bodies are not split
+                statement.execute(initScript);
+            }
+            return postgres;
+        } catch (IOException | SQLException e) {
+            throw new IllegalStateException("Cannot start the embedded PostgreSQL", e);
+        }
+    }
+}
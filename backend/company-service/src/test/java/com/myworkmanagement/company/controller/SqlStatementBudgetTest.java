@@ -0,0 +1,261 @@
+package com.myworkmanagement.company.controller;
+
+import com.myworkmanagement.company.PostgresIntegrationTest;
+import com.myworkmanagement.company.config.SqlStatementBudgetFilter;
+import com.myworkmanagement.company.config.SqlStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs every endpoint listed under {@code sql.statement-budget.endpoints} against the seeded database and checks
+ * the statements counted by {@link SqlStatementCounter} against its budget. The second-level and query caches are
+ * cleared before each request, so the counts are those of a cold cache, the worst case a budget has to cover.
+ */
+class SqlStatementBudgetTest extends PostgresIntegrationTest {
+
+    private static final long DEDAGROUP_ID = 1L;
+    private static final long PORTAL_PROJECT_ID = 1L;
+    private static final long PORTAL_CONTRACT_ID = 1L;
+    private static final long PORTAL_TASK_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementBudgetFilter budgetFilter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private Environment environment;
+
+    @BeforeEach
+    void clearCaches() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    void getTasks() throws Exception {
+        assertWithinBudget("GET /api/tasks", get("/api/tasks"));
+    }
+
+    @Test
+    void getTask() throws Exception {
+        assertWithinBudget("GET /api/tasks/{id}", get("/api/tasks/{id}", PORTAL_TASK_ID));
+    }
+
+    @Test
+    void getProjectTasks() throws Exception {
+        assertWithinBudget("GET /api/projects/{projectId}/tasks", get("/api/projects/{projectId}/tasks", PORTAL_PROJECT_ID));
+    }
+
+    @Test
+    void getProjectTasksByDateRange() throws Exception {
+        assertWithinBudget("GET /api/projects/{projectId}/tasks/date-range",
+                get("/api/projects/{projectId}/tasks/date-range", PORTAL_PROJECT_ID)
+                        .param("startDate", "2025-01-01")
+                        .param("endDate", "2025-03-31"));
+    }
+
+    @Test
+    void getUnbilledTasks() throws Exception {
+        assertWithinBudget("GET /api/tasks/unbilled", get("/api/tasks/unbilled"));
+    }
+
+    @Test
+    void getUnpaidTasks() throws Exception {
+        assertWithinBudget("GET /api/tasks/unpaid", get("/api/tasks/unpaid"));
+    }
+
+    @Test
+    void getProjectUnbilledTasks() throws Exception {
+        assertWithinBudget("GET /api/projects/{projectId}/tasks/unbilled",
+                get("/api/projects/{projectId}/tasks/unbilled", PORTAL_PROJECT_ID));
+    }
+
+    @Test
+    void getProjectUnpaidTasks() throws Exception {
+        assertWithinBudget("GET /api/projects/{projectId}/tasks/unpaid",
+                get("/api/projects/{projectId}/tasks/unpaid", PORTAL_PROJECT_ID));
+    }
+
+    @Test
+    void getUserTasks() throws Exception {
+        assertWithinBudget("GET /api/user/tasks", get("/api/user/tasks"));
+    }
+
+    @Test
+    void getUserProjectTasks() throws Exception {
+        assertWithinBudget("GET /api/user/projects/{projectId}/tasks",
+                get("/api/user/projects/{projectId}/tasks", PORTAL_PROJECT_ID));
+    }
+
+    @Test
+    void getUserUnbilledTasks() throws Exception {
+        assertWithinBudget("GET /api/user/tasks/unbilled", get("/api/user/tasks/unbilled"));
+    }
+
+    @Test
+    void getUserUnpaidTasks() throws Exception {
+        assertWithinBudget("GET /api/user/tasks/unpaid", get("/api/user/tasks/unpaid"));
+    }
+
+    @Test
+    void getUserProjectUnbilledTasks() throws Exception {
+        assertWithinBudget("GET /api/user/projects/{projectId}/tasks/unbilled",
+                get("/api/user/projects/{projectId}/tasks/unbilled", PORTAL_PROJECT_ID));
+    }
+
+    @Test
+    void getUserProjectUnpaidTasks() throws Exception {
+        assertWithinBudget("GET /api/user/projects/{projectId}/tasks/unpaid",
+                get("/api/user/projects/{projectId}/tasks/unpaid", PORTAL_PROJECT_ID));
+    }
+
+    @Test
+    void getSalPdf() throws Exception {
+        assertWithinBudget("GET /api/tasks/sal/pdf", get("/api/tasks/sal/pdf")
+                .param("year", "2025")
+                .param("month", "2")
+                .param("projectId", String.valueOf(PORTAL_PROJECT_ID)));
+    }
+
+    @Test
+    void getSalPreview() throws Exception {
+        assertWithinBudget("GET /api/tasks/sal/preview", get("/api/tasks/sal/preview")
+                .param("year", "2025")
+                .param("month", "2")
+                .param("projectId", String.valueOf(PORTAL_PROJECT_ID)));
+    }
+
+    @Test
+    void getSalBatch() throws Exception {
+        assertWithinBudget("GET /api/tasks/sal/batch", get("/api/tasks/sal/batch")
+                .param("startDate", "2025-01-01")
+                .param("endDate", "2025-03-31"));
+    }
+
+    @Test
+    void updateBillingStatus() throws Exception {
+        assertWithinBudget("PUT /api/tasks/billing-status", put("/api/tasks/billing-status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(statusUpdates("isBilled", "billingDate", "2025-04-01")));
+    }
+
+    @Test
+    void updatePaymentStatus() throws Exception {
+        assertWithinBudget("PUT /api/tasks/payment-status", put("/api/tasks/payment-status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(statusUpdates("isPaid", "paymentDate", "2025-05-01")));
+    }
+
+    @Test
+    void getProjects() throws Exception {
+        assertWithinBudget("GET /api/projects", get("/api/projects"));
+    }
+
+    @Test
+    void getCompanyProjects() throws Exception {
+        assertWithinBudget("GET /api/companies/{companyId}/projects",
+                get("/api/companies/{companyId}/projects", DEDAGROUP_ID));
+    }
+
+    @Test
+    void getCompanyProject() throws Exception {
+        assertWithinBudget("GET /api/companies/{companyId}/projects/{projectId}",
+                get("/api/companies/{companyId}/projects/{projectId}", DEDAGROUP_ID, PORTAL_PROJECT_ID));
+    }
+
+    @Test
+    void searchCompanyProjects() throws Exception {
+        assertWithinBudget("GET /api/companies/{companyId}/projects/search",
+                get("/api/companies/{companyId}/projects/search", DEDAGROUP_ID).param("searchTerm", "Portal"));
+    }
+
+    @Test
+    void getContracts() throws Exception {
+        assertWithinBudget("GET /api/contracts", get("/api/contracts"));
+    }
+
+    @Test
+    void getContract() throws Exception {
+        assertWithinBudget("GET /api/contracts/{contractId}", get("/api/contracts/{contractId}", PORTAL_CONTRACT_ID));
+    }
+
+    @Test
+    void getCompanyContracts() throws Exception {
+        assertWithinBudget("GET /api/companies/{companyId}/contracts",
+                get("/api/companies/{companyId}/contracts", DEDAGROUP_ID));
+    }
+
+    @Test
+    void getProjectContracts() throws Exception {
+        assertWithinBudget("GET /api/projects/{projectId}/contracts",
+                get("/api/projects/{projectId}/contracts", PORTAL_PROJECT_ID));
+    }
+
+    @Test
+    void getCompanyProjectStats() throws Exception {
+        assertWithinBudget("GET /api/statistics/company-project-stats", get("/api/statistics/company-project-stats"));
+    }
+
+    private void assertWithinBudget(String endpoint, MockHttpServletRequestBuilder request) throws Exception {
+        assertThat(configuredBudgets()).as("budget configured for %s", endpoint).containsKey(endpoint);
+
+        MvcResult result = mockMvc.perform(request.with(user(USER_EMAIL).roles("USER")))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        MockHttpServletRequest served = result.getRequest();
+        assertThat(served.getMethod() + " " + served.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))
+                .isEqualTo(endpoint);
+
+        SqlStatementCounter.Scope scope = (SqlStatementCounter.Scope) served.getAttribute(SqlStatementBudgetFilter.SCOPE_ATTRIBUTE);
+        assertThat(scope).isNotNull();
+        assertThat(scope.getTotal()).as("SQL statements of %s: %s", endpoint, scope.getCountsBySql())
+                .isPositive()
+                .isLessThanOrEqualTo(budgetFilter.budgetOf(endpoint));
+        assertThat(served.getAttribute(SqlStatementBudgetFilter.VIOLATION_ATTRIBUTE)).isNull();
+    }
+
+    private Map<String, Integer> configuredBudgets() {
+        return Binder.get(environment)
+                .bind("sql.statement-budget.endpoints", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Map.of());
+    }
+
+    /**
+     * The first ten Portal tasks, enough for a per-task statement to blow the budget.
+     */
+    private static String statusUpdates(String statusField, String dateField, String date) {
+        StringBuilder json = new StringBuilder("[");
+        for (long taskId = 1; taskId <= 10; taskId++) {
+            if (taskId > 1) {
+                json.append(',');
+            }
+            json.append(String.format("{\"taskId\":%d,\"%s\":true,\"%s\":\"%s\"}", taskId, statusField, dateField, date));
+        }
+        return json.append(']').toString();
+    }
+}
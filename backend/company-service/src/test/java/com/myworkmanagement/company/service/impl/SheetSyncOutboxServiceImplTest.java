@@ -0,0 +1,143 @@
+package com.myworkmanagement.company.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myworkmanagement.company.entity.SheetSyncIntent;
+import com.myworkmanagement.company.entity.SheetSyncOperation;
+import com.myworkmanagement.company.repository.SheetSyncIntentRepository;
+import com.myworkmanagement.company.service.SheetRowChange;
+import com.myworkmanagement.company.service.SheetsSyncPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Flushes outbox intents through a fake {@link SheetsSyncPort} that records the batches it is given
+ * and rejects the tickets it is told to.
+ */
+class SheetSyncOutboxServiceImplTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SheetSyncIntentRepository repository = mock(SheetSyncIntentRepository.class);
+    private final FakeSheetsSyncPort sheetsSyncPort = new FakeSheetsSyncPort();
+    private SheetSyncOutboxServiceImpl outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new SheetSyncOutboxServiceImpl(repository, sheetsSyncPort, objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(outboxService, "batchSize", 500);
+        ReflectionTestUtils.setField(outboxService, "initialBackoffMs", 0L);
+        ReflectionTestUtils.setField(outboxService, "maxBackoffMs", 0L);
+        ReflectionTestUtils.setField(outboxService, "maxAttempts", MAX_ATTEMPTS);
+    }
+
+    @Test
+    void flushCoalescesIntentsIntoOneBatch() throws Exception {
+        pending(intent(1, SheetSyncOperation.ADD, "T1", "first"),
+                intent(2, SheetSyncOperation.ADD, "T2", "added"),
+                intent(3, SheetSyncOperation.UPDATE, "T1", "latest"),
+                intent(4, SheetSyncOperation.DELETE, "T2", null),
+                intent(5, SheetSyncOperation.UPDATE, "T3", "updated"),
+                intent(6, SheetSyncOperation.DELETE, "T4", null),
+                intent(7, SheetSyncOperation.ADD, "T4", "re-added"),
+                intent(8, SheetSyncOperation.DELETE, "T5", null),
+                intent(9, SheetSyncOperation.UPDATE, "T5", "ignored"));
+
+        outboxService.flush();
+
+        assertThat(sheetsSyncPort.batches).containsExactly(List.of(
+                change(SheetSyncOperation.ADD, "T1", "latest"),
+                change(SheetSyncOperation.UPDATE, "T3", "updated"),
+                change(SheetSyncOperation.UPDATE, "T4", "re-added"),
+                new SheetRowChange("T5", SheetSyncOperation.DELETE, null)));
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L));
+        verify(repository, never()).recordFailedAttempt(anyCollection(), anyString());
+    }
+
+    @Test
+    void failedBatchIsRetriedPerTicketUpToTheFailingOne() throws Exception {
+        pending(intent(1, SheetSyncOperation.UPDATE, "T1", "one"),
+                intent(2, SheetSyncOperation.UPDATE, "T2", "two"),
+                intent(3, SheetSyncOperation.UPDATE, "T3", "three"));
+        sheetsSyncPort.rejectedTickets.add("T2");
+
+        outboxService.flush();
+
+        assertThat(sheetsSyncPort.batches).hasSize(3);
+        assertThat(sheetsSyncPort.batches.get(1)).containsExactly(change(SheetSyncOperation.UPDATE, "T1", "one"));
+        assertThat(sheetsSyncPort.batches.get(2)).containsExactly(change(SheetSyncOperation.UPDATE, "T2", "two"));
+        verify(repository).deleteAllByIdInBatch(List.of(1L));
+        verify(repository).recordFailedAttempt(List.of(2L), "rejected T2");
+        verify(repository, never()).markDeadLettered(anyCollection());
+    }
+
+    @Test
+    void ticketIsDeadLetteredAfterMaxAttempts() throws Exception {
+        SheetSyncIntent poison = intent(1, SheetSyncOperation.UPDATE, "T1", "poison");
+        poison.setAttempts(MAX_ATTEMPTS - 1);
+        pending(poison, intent(2, SheetSyncOperation.UPDATE, "T2", "two"));
+        sheetsSyncPort.rejectedTickets.add("T1");
+
+        outboxService.flush();
+
+        verify(repository).recordFailedAttempt(List.of(1L), "rejected T1");
+        verify(repository).markDeadLettered(List.of(1L));
+    }
+
+    private void pending(SheetSyncIntent... intents) {
+        when(repository.findByDeadLetteredAtIsNullOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(intents));
+    }
+
+    private SheetSyncIntent intent(long id, SheetSyncOperation operation, String ticketId, String value)
+            throws JsonProcessingException {
+        List<Object> row = value != null ? row(ticketId, value) : null;
+        return SheetSyncIntent.builder()
+                .id(id)
+                .operation(operation)
+                .ticketId(ticketId)
+                .rowData(row != null ? objectMapper.writeValueAsString(row) : null)
+                .build();
+    }
+
+    private static SheetRowChange change(SheetSyncOperation operation, String ticketId, String value) {
+        return new SheetRowChange(ticketId, operation, row(ticketId, value));
+    }
+
+    private static List<Object> row(String ticketId, String value) {
+        return List.of("2025-01-01", value, ticketId);
+    }
+
+    private static class FakeSheetsSyncPort implements SheetsSyncPort {
+        private final List<List<SheetRowChange>> batches = new ArrayList<>();
+        private final Set<String> rejectedTickets = new HashSet<>();
+
+        @Override
+        public void applyChanges(List<SheetRowChange> changes) throws IOException {
+            batches.add(List.copyOf(changes));
+            for (SheetRowChange change : changes) {
+                if (rejectedTickets.contains(change.getTicketId())) {
+                    throw new IOException("rejected " + change.getTicketId());
+                }
+            }
+        }
+    }
+}
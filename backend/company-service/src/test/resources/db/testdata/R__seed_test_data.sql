@@ -0,0 +1,61 @@
+-- Synthetic data set of the integration tests. The lists hold enough rows that a per-row lazy load or lookup
+-- shows up as an N+1 in the statement counts: seed.user@example.com owns two Dedagroup projects and one Acme
+-- project with 40 tasks each over January-March 2025, plus contracts, clients and contract usages;
+-- other.user@example.com owns unrelated data that must never appear in the seed user's responses.
+
+INSERT INTO public.companies (id, name, email, tax_id, status, user_email) VALUES
+    (1, 'Dedagroup', 'billing@dedagroup.example.com', 'IT00000000001', 'ACTIVE', 'seed.user@example.com'),
+    (2, 'Acme Consulting', 'office@acme.example.com', 'IT00000000002', 'ACTIVE', 'seed.user@example.com'),
+    (3, 'Other Company', 'office@other.example.com', 'IT00000000003', 'ACTIVE', 'other.user@example.com');
+
+INSERT INTO public.projects (id, company_id, name, hourly_rate, currency, start_date, status, user_email) VALUES
+    (1, 1, 'Portal', 50.00, 'EUR', '2025-01-01', 'ACTIVE', 'seed.user@example.com'),
+    (2, 1, 'Billing', 55.00, 'EUR', '2025-01-01', 'ACTIVE', 'seed.user@example.com'),
+    (3, 2, 'Website', 45.00, 'EUR', '2025-01-01', 'ACTIVE', 'seed.user@example.com'),
+    (4, 3, 'Intranet', 40.00, 'EUR', '2025-01-01', 'ACTIVE', 'other.user@example.com');
+
+INSERT INTO public.clients (id, project_id, name, project_manager_name, user_email) VALUES
+    (1, 1, 'Portal Client', 'Anna Rossi', 'seed.user@example.com'),
+    (2, 2, 'Billing Client', 'Marco Bianchi', 'seed.user@example.com'),
+    (3, 3, 'Website Client', 'Laura Verdi', 'seed.user@example.com'),
+    (4, 4, 'Intranet Client', 'Paolo Neri', 'other.user@example.com');
+
+UPDATE public.projects SET default_client_id = id;
+
+INSERT INTO public.contracts (id, company_id, name, code, total_amount, amount_available, start_date, status, user_email) VALUES
+    (1, 1, 'Portal maintenance', 'DG-2025-01', 20000.00, 15000.00, '2025-01-01', 'OPEN', 'seed.user@example.com'),
+    (2, 1, 'Dedagroup framework', 'DG-2025-02', 50000.00, 50000.00, '2025-01-01', 'OPEN', 'seed.user@example.com'),
+    (3, 2, 'Website redesign', 'AC-2025-01', 10000.00, 8000.00, '2025-01-01', 'OPEN', 'seed.user@example.com'),
+    (4, 3, 'Intranet support', 'OT-2025-01', 5000.00, 5000.00, '2025-01-01', 'OPEN', 'other.user@example.com');
+
+INSERT INTO public.project_contracts (project_id, contract_id) VALUES
+    (1, 1), (1, 2), (2, 2), (3, 3), (4, 4);
+
+INSERT INTO public.tasks (project_id, client_id, title, ticket_id, start_date, hours_worked, rate_used, type,
+                          currency, is_billed, is_paid, billing_date, payment_date, user_email)
+SELECT p.id,
+       p.id,
+       'Task ' || i || ' of ' || p.name,
+       'TCK-' || p.id || '-' || i,
+       DATE '2025-01-01' + (i * 2),
+       4.00 + (i % 4),
+       p.hourly_rate,
+       CASE WHEN i % 2 = 0 THEN 'EVOLUTIVA' ELSE 'CORRETTIVA' END,
+       'EUR',
+       i % 3 = 0,
+       i % 6 = 0,
+       CASE WHEN i % 3 = 0 THEN DATE '2025-04-01' END,
+       CASE WHEN i % 6 = 0 THEN DATE '2025-05-01' END,
+       p.user_email
+FROM public.projects p
+CROSS JOIN generate_series(1, 40) AS i;
+
+INSERT INTO public.task_contract_usages (task_id, contract_id, amount_used, contract_code)
+SELECT t.id, 1, t.hours_worked * t.rate_used, 'DG-2025-01'
+FROM public.tasks t
+WHERE t.project_id = 1 AND t.is_billed;
+
+SELECT setval('companies_id_seq', (SELECT MAX(id) FROM public.companies));
+SELECT setval('projects_id_seq', (SELECT MAX(id) FROM public.projects));
+SELECT setval('clients_id_seq', (SELECT MAX(id) FROM public.clients));
+SELECT setval('contracts_id_seq', (SELECT MAX(id) FROM public.contracts));
@@ -0,0 +1,369 @@
+package com.myworkmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the company-service database with a synthetic dataset for load tests.
+ * Users are registered through auth-service so they can log in; companies, projects, clients and contracts
+ * are written with batched inserts and tasks are streamed with {@code COPY}.
+ * <p>
+ * Every run uses its own prefix for names, tax ids, contract codes and ticket ids, so runs can be stacked on the
+ * same database. Tasks are spread over users and projects with a skew (a few heavy users and projects), dates cover
+ * the last {@code --days} days with more recent work, and older tasks are more likely to be billed and paid.
+ * <pre>
+ * java -cp load-test.jar com.myworkmanagement.loadtest.DataGenerator --tasks=2000000 --users=50
+ * </pre>
+ */
+public final class DataGenerator {
+
+    static final String USER_EMAIL_FORMAT = "loadtest-user-%d@example.com";
+    static final String USER_PASSWORD = "LoadTest123!";
+
+    private static final String DEDAGROUP = "Dedagroup";
+    private static final int COPY_CHUNK_ROWS = 10_000;
+    private static final String[] WORDS = {
+            "login", "report", "invoice", "export", "dashboard", "migration", "timeout", "search",
+            "upload", "billing", "calendar", "sync", "permissions", "notification", "cache", "import"
+    };
+
+    private final Args args;
+    private final SplittableRandom random;
+    private final String runPrefix;
+    private final LocalDate today = LocalDate.now();
+
+    private DataGenerator(Args args) {
+        this.args = args;
+        this.random = new SplittableRandom(args.getLong("seed", 42));
+        this.runPrefix = args.get("run-prefix", "LT" + Long.toString(System.currentTimeMillis() % 1_000_000_000L, 36).toUpperCase());
+    }
+
+    public static void main(String[] argv) throws Exception {
+        new DataGenerator(new Args(argv)).run();
+    }
+
+    private void run() throws Exception {
+        int users = args.getInt("users", 20);
+        int companiesPerUser = args.getInt("companies-per-user", 5);
+        int projectsPerCompany = args.getInt("projects-per-company", 4);
+        int clientsPerProject = args.getInt("clients-per-project", 3);
+        int contractsPerCompany = args.getInt("contracts-per-company", 2);
+        long tasks = args.getLong("tasks", 1_000_000);
+
+        if (!Boolean.parseBoolean(args.get("skip-users", "false"))) {
+            registerUsers(users);
+        }
+
+        String url = args.get("jdbc-url", "jdbc:postgresql://localhost:5433/company_service_db?reWriteBatchedInserts=true");
+        try (Connection connection = DriverManager.getConnection(url,
+                args.get("db-user", "postgres"), args.get("db-password", "postgres"))) {
+            connection.setAutoCommit(false);
+
+            long dedagroupId = ensureDedagroup(connection);
+            List<Long> dedagroupProjects = insertProjects(connection, List.of(dedagroupId), List.of(email(0)), projectsPerCompany);
+
+            List<Long> companyIds = new ArrayList<>();
+            List<String> companyOwners = new ArrayList<>();
+            for (int u = 0; u < users; u++) {
+                for (int c = 0; c < companiesPerUser; c++) {
+                    companyOwners.add(email(u));
+                }
+            }
+            companyIds.addAll(insertCompanies(connection, companyOwners));
+            List<Long> projectIds = insertProjects(connection, companyIds, companyOwners, projectsPerCompany);
+            connection.commit();
+
+            List<Long> allProjects = new ArrayList<>(dedagroupProjects);
+            allProjects.addAll(projectIds);
+            Map<Long, List<Long>> clientsByProject = insertClients(connection, allProjects, clientsPerProject);
+            insertContracts(connection, companyIds, companyOwners, projectIds, projectsPerCompany, contractsPerCompany);
+            connection.commit();
+
+            // Each user works on the projects of their own companies and on the shared Dedagroup projects
+            List<List<Long>> projectsByUser = new ArrayList<>();
+            int projectsPerUser = companiesPerUser * projectsPerCompany;
+            for (int u = 0; u < users; u++) {
+                List<Long> own = new ArrayList<>(projectIds.subList(u * projectsPerUser, (u + 1) * projectsPerUser));
+                own.addAll(dedagroupProjects);
+                projectsByUser.add(own);
+            }
+
+            copyTasks(connection, tasks, projectsByUser, clientsByProject);
+            connection.commit();
+
+            try (Statement statement = connection.createStatement()) {
+                connection.setAutoCommit(true);
+                statement.execute("ANALYZE tasks");
+            }
+        }
+        System.out.printf("Run %s: %d users, %d companies, %d projects, %d tasks%n",
+                runPrefix, users, users * companiesPerUser + 1, (users * companiesPerUser + 1) * projectsPerCompany, tasks);
+    }
+
+    private void registerUsers(int users) throws Exception {
+        String authUrl = args.get("auth-url", "http://localhost:8082");
+        HttpClient client = HttpClient.newHttpClient();
+        ObjectMapper mapper = new ObjectMapper();
+        for (int u = 0; u < users; u++) {
+            String body = mapper.writeValueAsString(Map.of(
+                    "email", email(u),
+                    "password", USER_PASSWORD,
+                    "firstName", "Load",
+                    "lastName", "User " + u));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(authUrl + "/api/auth/register"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            // Registration is rate limited per IP like login; wait as told
+            for (int attempt = 1; response.statusCode() == 429 || response.statusCode() == 503; attempt++) {
+                if (attempt == 10) {
+                    throw new IllegalStateException("Registration kept being throttled for " + email(u));
+                }
+                long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1);
+                Thread.sleep(TimeUnit.SECONDS.toMillis(retryAfter));
+                response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            }
+            // Users from a previous run already exist, which is fine
+            if (response.statusCode() >= 300 && !response.body().contains("already exists")) {
+                throw new IllegalStateException("Cannot register " + email(u) + ": " + response.statusCode() + " " + response.body());
+            }
+        }
+    }
+
+    private long ensureDedagroup(Connection connection) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO companies (name, email, payment_terms, status, user_email) VALUES (?, ?, 30, 'ACTIVE', ?) "
+                        + "ON CONFLICT (name) DO NOTHING")) {
+            insert.setString(1, DEDAGROUP);
+            insert.setString(2, "amministrazione@dedagroup.example.com");
+            insert.setString(3, email(0));
+            insert.executeUpdate();
+        }
+        try (PreparedStatement select = connection.prepareStatement("SELECT id FROM companies WHERE name = ?")) {
+            select.setString(1, DEDAGROUP);
+            try (ResultSet rs = select.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private List<Long> insertCompanies(Connection connection, List<String> owners) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO companies (name, email, phone, tax_id, payment_terms, status, user_email) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)", new String[]{"id"})) {
+            for (int i = 0; i < owners.size(); i++) {
+                insert.setString(1, runPrefix + " Company " + i);
+                insert.setString(2, "info" + i + "@" + runPrefix.toLowerCase() + ".example.com");
+                insert.setString(3, "+39 02 " + (1_000_000 + random.nextInt(9_000_000)));
+                insert.setString(4, runPrefix + "-" + i);
+                insert.setInt(5, random.nextBoolean() ? 30 : 60);
+                insert.setString(6, random.nextInt(10) == 0 ? "INACTIVE" : "ACTIVE");
+                insert.setString(7, owners.get(i));
+                insert.addBatch();
+            }
+            return executeReturningIds(insert);
+        }
+    }
+
+    private List<Long> insertProjects(Connection connection, List<Long> companyIds, List<String> owners,
+                                      int projectsPerCompany) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO projects (company_id, name, description, daily_rate, currency, start_date, status, user_email) "
+                        + "VALUES (?, ?, ?, ?, 'EUR', ?, 'ACTIVE', ?)", new String[]{"id"})) {
+            for (int c = 0; c < companyIds.size(); c++) {
+                for (int p = 0; p < projectsPerCompany; p++) {
+                    insert.setLong(1, companyIds.get(c));
+                    insert.setString(2, runPrefix + " Project " + c + "-" + p);
+                    insert.setString(3, "Synthetic project for " + WORDS[random.nextInt(WORDS.length)]);
+                    insert.setBigDecimal(4, BigDecimal.valueOf(250 + 25L * random.nextInt(15)));
+                    insert.setObject(5, today.minusDays(args.getInt("days", 1095)));
+                    insert.setString(6, owners.get(c));
+                    insert.addBatch();
+                }
+            }
+            return executeReturningIds(insert);
+        }
+    }
+
+    private Map<Long, List<Long>> insertClients(Connection connection, List<Long> projectIds,
+                                                int clientsPerProject) throws SQLException {
+        Map<Long, List<Long>> clientsByProject = new HashMap<>();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO clients (project_id, name, contact_email, project_manager_name, user_email) "
+                        + "SELECT ?, ?, ?, ?, COALESCE(user_email, ?) FROM projects WHERE id = ?", new String[]{"id", "project_id"})) {
+            for (Long projectId : projectIds) {
+                for (int c = 0; c < clientsPerProject; c++) {
+                    insert.setLong(1, projectId);
+                    insert.setString(2, runPrefix + " Client " + c);
+                    insert.setString(3, "client" + c + "@example.com");
+                    insert.setString(4, "PM " + c);
+                    insert.setString(5, email(0));
+                    insert.setLong(6, projectId);
+                    insert.addBatch();
+                }
+            }
+            insert.executeBatch();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                while (keys.next()) {
+                    clientsByProject.computeIfAbsent(keys.getLong(2), k -> new ArrayList<>()).add(keys.getLong(1));
+                }
+            }
+        }
+        return clientsByProject;
+    }
+
+    private void insertContracts(Connection connection, List<Long> companyIds, List<String> owners, List<Long> projectIds,
+                                 int projectsPerCompany, int contractsPerCompany) throws SQLException {
+        List<Long> contractIds;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO contracts (company_id, name, code, total_amount, amount_available, start_date, status, user_email) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, 'OPEN', ?)", new String[]{"id"})) {
+            for (int c = 0; c < companyIds.size(); c++) {
+                for (int k = 0; k < contractsPerCompany; k++) {
+                    BigDecimal total = BigDecimal.valueOf(20_000L + 5_000L * random.nextInt(40));
+                    insert.setLong(1, companyIds.get(c));
+                    insert.setString(2, "Contract " + k);
+                    insert.setString(3, runPrefix + "-C" + c + "-" + k);
+                    insert.setBigDecimal(4, total);
+                    insert.setBigDecimal(5, total);
+                    insert.setObject(6, today.minusDays(args.getInt("days", 1095)));
+                    insert.setString(7, owners.get(c));
+                    insert.addBatch();
+                }
+            }
+            contractIds = executeReturningIds(insert);
+        }
+        // Every contract covers all projects of its company
+        try (PreparedStatement link = connection.prepareStatement(
+                "INSERT INTO project_contracts (project_id, contract_id) VALUES (?, ?)")) {
+            for (int c = 0; c < companyIds.size(); c++) {
+                for (int k = 0; k < contractsPerCompany; k++) {
+                    for (int p = 0; p < projectsPerCompany; p++) {
+                        link.setLong(1, projectIds.get(c * projectsPerCompany + p));
+                        link.setLong(2, contractIds.get(c * contractsPerCompany + k));
+                        link.addBatch();
+                    }
+                }
+            }
+            link.executeBatch();
+        }
+    }
+
+    private void copyTasks(Connection connection, long tasks, List<List<Long>> projectsByUser,
+                           Map<Long, List<Long>> clientsByProject) throws SQLException {
+        int days = args.getInt("days", 1095);
+        CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                "COPY tasks (project_id, title, description, ticket_id, start_date, end_date, hours_worked, rate_used, type, "
+                        + "currency, is_billed, is_paid, billing_date, payment_date, invoice_id, client_id, user_email, "
+                        + "created_at, updated_at) FROM STDIN WITH (FORMAT csv)");
+        try {
+            StringBuilder chunk = new StringBuilder(COPY_CHUNK_ROWS * 200);
+            for (long t = 0; t < tasks; t++) {
+                int user = skewed(projectsByUser.size());
+                List<Long> projects = projectsByUser.get(user);
+                long projectId = projects.get(skewed(projects.size()));
+                List<Long> clients = clientsByProject.getOrDefault(projectId, List.of());
+
+                // Squaring a uniform value puts more tasks in recent days
+                double r = random.nextDouble();
+                int age = (int) (r * r * days);
+                LocalDate start = today.minusDays(age);
+                LocalDate end = start.plusDays(random.nextInt(4));
+                boolean billed = random.nextDouble() < (age > 60 ? 0.95 : age > 30 ? 0.6 : 0.1);
+                boolean paid = billed && random.nextDouble() < (age > 90 ? 0.9 : 0.3);
+                LocalDate billingDate = billed ? min(end.plusDays(10 + random.nextInt(30)), today) : null;
+                LocalDate paymentDate = paid ? min(billingDate.plusDays(30 + random.nextInt(30)), today) : null;
+                String word = WORDS[random.nextInt(WORDS.length)];
+
+                chunk.append(projectId).append(',')
+                        .append("Fix ").append(word).append(' ').append(t).append(',')
+                        .append("Synthetic task about ").append(word).append(',')
+                        .append(runPrefix).append('-').append(t).append(',')
+                        .append(start).append(',')
+                        .append(end).append(',')
+                        .append(0.5 * (1 + random.nextInt(16))).append(',')
+                        .append(random.nextInt(10) == 0 ? "" : String.valueOf(250 + 25 * random.nextInt(15))).append(',')
+                        .append(random.nextInt(10) < 6 ? "EVOLUTIVA" : "CORRETTIVA").append(',')
+                        .append("EUR").append(',')
+                        .append(billed).append(',')
+                        .append(paid).append(',')
+                        .append(billingDate != null ? billingDate : "").append(',')
+                        .append(paymentDate != null ? paymentDate : "").append(',')
+                        .append(billed ? "INV-" + billingDate.getYear() + "-" + billingDate.getMonthValue() : "").append(',')
+                        .append(!clients.isEmpty() && random.nextInt(5) > 0 ? String.valueOf(clients.get(random.nextInt(clients.size()))) : "").append(',')
+                        .append(email(user)).append(',')
+                        .append(start.atTime(9, 0)).append(',')
+                        .append(start.atTime(9, 0)).append('\n');
+
+                if ((t + 1) % COPY_CHUNK_ROWS == 0) {
+                    write(copy, chunk);
+                    if ((t + 1) % 500_000 == 0) {
+                        System.out.printf("%d tasks copied%n", t + 1);
+                    }
+                }
+            }
+            write(copy, chunk);
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Index in [0, size) with lower indexes more likely, so a few users and projects hold most of the tasks.
+     */
+    private int skewed(int size) {
+        double r = random.nextDouble();
+        return Math.min(size - 1, (int) (r * r * r * size));
+    }
+
+    private static void write(CopyIn copy, StringBuilder chunk) throws SQLException {
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+
+    private static List<Long> executeReturningIds(PreparedStatement insert) throws SQLException {
+        insert.executeBatch();
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet keys = insert.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids.add(keys.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    static String email(int user) {
+        return String.format(USER_EMAIL_FORMAT, user);
+    }
+}
@@ -0,0 +1,90 @@
+package com.myworkmanagement.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects response times per operation and prints throughput and percentiles.
+ * Every sample is kept, which is fine for runs of a few million requests and gives exact percentiles.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> samplesByOperation = new ConcurrentHashMap<>();
+
+    private static final class Samples {
+        private long[] nanos = new long[1024];
+        private int size;
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void add(long value) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(nanos, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    void record(String operation, long nanos, boolean success) {
+        Samples samples = samplesByOperation.computeIfAbsent(operation, k -> new Samples());
+        samples.add(nanos);
+        if (!success) {
+            samples.errors.incrementAndGet();
+        }
+    }
+
+    void report(double elapsedSeconds) {
+        System.out.printf("%-22s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        long totalErrors = 0;
+        long[] all = new long[0];
+        for (Map.Entry<String, Samples> entry : new TreeMap<>(samplesByOperation).entrySet()) {
+            long[] sorted = entry.getValue().sorted();
+            long errors = entry.getValue().errors.get();
+            print(entry.getKey(), sorted, errors, elapsedSeconds);
+            totalErrors += errors;
+            all = merge(all, sorted);
+        }
+        print("TOTAL", all, totalErrors, elapsedSeconds);
+    }
+
+    private static void print(String name, long[] sorted, long errors, double elapsedSeconds) {
+        System.out.printf("%-22s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                name, sorted.length, errors, sorted.length / elapsedSeconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0.0);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static long[] merge(long[] a, long[] b) {
+        long[] merged = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            merged[k++] = a[i] <= b[j] ? a[i++] : b[j++];
+        }
+        while (i < a.length) {
+            merged[k++] = a[i++];
+        }
+        while (j < b.length) {
+            merged[k++] = b[j++];
+        }
+        return merged;
+    }
+}
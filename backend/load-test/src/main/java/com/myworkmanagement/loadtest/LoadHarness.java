@@ -0,0 +1,280 @@
+package com.myworkmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Replays a mixed workload against a running company-service and prints throughput and p50/p90/p99 per operation.
+ * Logs in the users created by {@link DataGenerator}, then {@code --concurrency} workers issue requests back to back
+ * for {@code --duration-seconds}, after a {@code --warmup-seconds} period that is not recorded.
+ * Workers are virtual threads unless {@code --worker-threads=platform}.
+ * <pre>
+ * java -cp load-test.jar com.myworkmanagement.loadtest.LoadHarness --users=20 --concurrency=64 --duration-seconds=120
+ * </pre>
+ */
+public final class LoadHarness {
+
+    private static final String[] SEARCH_WORDS = {"login", "report", "invoice", "export", "billing", "sync"};
+
+    /**
+     * Operations of the mix with their relative weights.
+     */
+    private enum Operation {
+        TASKS_LIST(30),
+        TASKS_SEARCH(15),
+        TASKS_UNBILLED(5),
+        PROJECT_TASKS(10),
+        TASK_CREATE(10),
+        BILLING_UPDATE(10),
+        STATISTICS(10),
+        SAL_PREVIEW(7),
+        SAL_PDF(3);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final class Session {
+        private final String email;
+        private volatile String token;
+        // Serializes re-logins, held across the login call
+        private final ReentrantLock loginLock = new ReentrantLock();
+        private final List<Long> projectIds = new ArrayList<>();
+        // Ids of tasks seen in list responses, used for billing updates
+        private final List<Long> taskIds = new CopyOnWriteArrayList<>();
+
+        private Session(String email) {
+            this.email = email;
+        }
+    }
+
+    private final Args args;
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final String companyUrl;
+    private final String authUrl;
+    private final Operation[] mix;
+
+    private LoadHarness(Args args) {
+        this.args = args;
+        this.companyUrl = args.get("company-url", "http://localhost:8081");
+        this.authUrl = args.get("auth-url", "http://localhost:8082");
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<Operation> weighted = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            for (int i = 0; i < operation.weight; i++) {
+                weighted.add(operation);
+            }
+        }
+        this.mix = weighted.toArray(new Operation[0]);
+    }
+
+    public static void main(String[] argv) throws Exception {
+        new LoadHarness(new Args(argv)).run();
+    }
+
+    private void run() throws Exception {
+        int users = args.getInt("users", 20);
+        int concurrency = args.getInt("concurrency", 32);
+        long warmupNanos = TimeUnit.SECONDS.toNanos(args.getInt("warmup-seconds", 15));
+        long durationNanos = TimeUnit.SECONDS.toNanos(args.getInt("duration-seconds", 60));
+
+        List<Session> sessions = new ArrayList<>();
+        for (int u = 0; u < users; u++) {
+            Session session = new Session(DataGenerator.email(u));
+            login(session);
+            JsonNode projects = getJson(session, "/api/projects?size=200");
+            for (JsonNode project : projects.path("content")) {
+                session.projectIds.add(project.path("id").asLong());
+            }
+            sessions.add(session);
+        }
+        System.out.printf("Logged in %d users, running %d workers for %d s after %d s warmup%n",
+                users, concurrency, TimeUnit.NANOSECONDS.toSeconds(durationNanos), TimeUnit.NANOSECONDS.toSeconds(warmupNanos));
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + durationNanos;
+
+        // Virtual workers let --concurrency go to thousands of in-flight requests without as many OS threads
+        ExecutorService workers = "platform".equals(args.get("worker-threads", "virtual"))
+                ? Executors.newFixedThreadPool(concurrency)
+                : Executors.newVirtualThreadPerTaskExecutor();
+        for (int w = 0; w < concurrency; w++) {
+            Session session = sessions.get(w % sessions.size());
+            workers.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long now;
+                while ((now = System.nanoTime()) < end) {
+                    Operation operation = mix[random.nextInt(mix.length)];
+                    boolean success;
+                    try {
+                        success = execute(session, operation, random);
+                    } catch (IOException e) {
+                        success = false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    long finished = System.nanoTime();
+                    if (now >= measureFrom) {
+                        recorder.record(operation.name().toLowerCase(), finished - now, success);
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(warmupNanos + durationNanos + TimeUnit.MINUTES.toNanos(1), TimeUnit.NANOSECONDS);
+
+        recorder.report(durationNanos / 1e9);
+    }
+
+    private boolean execute(Session session, Operation operation, ThreadLocalRandom random)
+            throws IOException, InterruptedException {
+        LocalDate lastMonth = LocalDate.now().minusMonths(1);
+        switch (operation) {
+            case TASKS_LIST:
+                return collectTaskIds(session, get(session, "/api/tasks?size=20&sort=startDate,desc&page=" + random.nextInt(5)));
+            case TASKS_SEARCH:
+                return get(session, "/api/tasks?size=20&search=" + SEARCH_WORDS[random.nextInt(SEARCH_WORDS.length)]).statusCode() == 200;
+            case TASKS_UNBILLED:
+                return collectTaskIds(session, get(session, "/api/tasks/unbilled?size=20"));
+            case PROJECT_TASKS:
+                return get(session, "/api/projects/" + randomProject(session, random) + "/tasks?size=20").statusCode() == 200;
+            case TASK_CREATE:
+                return send(session, "POST", "/api/projects/" + randomProject(session, random) + "/tasks", Map.of(
+                        "title", "Load test task",
+                        "startDate", LocalDate.now().toString(),
+                        "hoursWorked", 0.5 * (1 + random.nextInt(16)),
+                        "type", random.nextBoolean() ? "EVOLUTIVA" : "CORRETTIVA")).statusCode() < 300;
+            case BILLING_UPDATE:
+                if (session.taskIds.isEmpty()) {
+                    return collectTaskIds(session, get(session, "/api/tasks/unbilled?size=20"));
+                }
+                Long taskId = session.taskIds.get(random.nextInt(session.taskIds.size()));
+                return send(session, "PUT", "/api/tasks/billing-status", List.of(Map.of(
+                        "taskId", taskId,
+                        "isBilled", random.nextBoolean(),
+                        "billingDate", LocalDate.now().toString(),
+                        "invoiceId", "LOAD-" + LocalDate.now()))).statusCode() < 300;
+            case STATISTICS:
+                return get(session, "/api/statistics/company-project-stats").statusCode() == 200;
+            case SAL_PREVIEW:
+                return get(session, "/api/tasks/sal/preview?year=" + lastMonth.getYear() + "&month=" + lastMonth.getMonthValue())
+                        .statusCode() < 500;
+            case SAL_PDF:
+                return get(session, "/api/tasks/sal/pdf?year=" + lastMonth.getYear() + "&month=" + lastMonth.getMonthValue())
+                        .statusCode() < 500;
+            default:
+                throw new IllegalStateException("Unknown operation " + operation);
+        }
+    }
+
+    private boolean collectTaskIds(Session session, HttpResponse<String> response) throws IOException {
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        if (session.taskIds.size() < 1000) {
+            for (JsonNode task : mapper.readTree(response.body()).path("content")) {
+                session.taskIds.add(task.path("id").asLong());
+            }
+        }
+        return true;
+    }
+
+    private long randomProject(Session session, ThreadLocalRandom random) {
+        return session.projectIds.get(random.nextInt(session.projectIds.size()));
+    }
+
+    private JsonNode getJson(Session session, String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = get(session, path);
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+        return mapper.readTree(response.body());
+    }
+
+    private HttpResponse<String> get(Session session, String path) throws IOException, InterruptedException {
+        return call(session, HttpRequest.newBuilder(URI.create(companyUrl + path)).GET());
+    }
+
+    private HttpResponse<String> send(Session session, String method, String path, Object body)
+            throws IOException, InterruptedException {
+        return call(session, HttpRequest.newBuilder(URI.create(companyUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body))));
+    }
+
+    /**
+     * Sends the request with the session's token, logging in again once if the token has expired.
+     * Of the workers that got a 401 with the same token only the first logs in; the others reuse its new token.
+     */
+    private HttpResponse<String> call(Session session, HttpRequest.Builder request) throws IOException, InterruptedException {
+        request.timeout(Duration.ofSeconds(30));
+        String sentToken = session.token;
+        HttpResponse<String> response = client.send(
+                request.copy().header("Authorization", "Bearer " + sentToken).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 401) {
+            session.loginLock.lock();
+            try {
+                if (Objects.equals(sentToken, session.token)) {
+                    login(session);
+                }
+            } finally {
+                session.loginLock.unlock();
+            }
+            response = client.send(
+                    request.header("Authorization", "Bearer " + session.token).build(),
+                    HttpResponse.BodyHandlers.ofString());
+        }
+        return response;
+    }
+
+    private void login(Session session) throws IOException, InterruptedException {
+        String body = mapper.writeValueAsString(Map.of("email", session.email, "password", DataGenerator.USER_PASSWORD));
+        for (int attempt = 0; attempt < 10; attempt++) {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(authUrl + "/api/auth/login"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                session.token = mapper.readTree(response.body()).path("token").asText();
+                return;
+            }
+            if (response.statusCode() != 429 && response.statusCode() != 503) {
+                throw new IllegalStateException("Login failed for " + session.email + ": " + response.statusCode());
+            }
+            // Login is rate limited per IP; wait as told
+            long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1);
+            Thread.sleep(TimeUnit.SECONDS.toMillis(retryAfter));
+        }
+        throw new IllegalStateException("Login kept being throttled for " + session.email);
+    }
+}
@@ -0,0 +1,13 @@
+#!/bin/bash
+# Clones the primary on first start and runs as a hot standby that follows it
+set -e
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+    until PGPASSWORD=replicator pg_basebackup -h company-db -p 5432 -U replicator -D "$PGDATA" -Fp -Xs -R; do
+        echo "Waiting for the primary to accept replication connections..."
+        sleep 2
+    done
+    chmod 700 "$PGDATA"
+fi
+
+exec postgres
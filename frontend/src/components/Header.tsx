@@ -3,6 +3,7 @@ import { Link, useLocation, useNavigate } from 'react-router-dom';
 import { useAuth } from '../contexts/AuthContext';
 import { useTheme } from '../contexts/ThemeContext';
 import noteService from '../services/noteService';
+import eventStream, { UNREAD_NOTES_EVENT } from '../services/eventStream';
 
 const Header: React.FC = () => {
   const { user, logout } = useAuth();
@@ -42,13 +43,28 @@ const Header: React.FC = () => {
       loadUnreadCount();
     };
 
-    loadUnreadCount();
+    // The event stream pushes the count on connect and whenever notes change
+    const handleUnreadCount = (event: Event) => {
+      const count = (event as CustomEvent<{ count: number }>).detail?.count;
+      if (typeof count === 'number') {
+        setUnreadNotesCount(count);
+      }
+    };
+
+    if (user) {
+      eventStream.start();
+    } else {
+      setUnreadNotesCount(0);
+    }
     window.addEventListener('notes-updated', handleNotesUpdated);
+    window.addEventListener(UNREAD_NOTES_EVENT, handleUnreadCount);
 
     return () => {
+      eventStream.stop();
       window.removeEventListener('notes-updated', handleNotesUpdated);
+      window.removeEventListener(UNREAD_NOTES_EVENT, handleUnreadCount);
     };
-  }, [user, location.pathname]);
+  }, [user]);
 
   // Get page name from pathname
   const getPageName = (pathname: string): string => {
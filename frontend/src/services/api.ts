@@ -1,5 +1,6 @@
 import axios from 'axios';
 import config from '../config';
+import authService from './authService';
 
 const api = axios.create({
   baseURL: `${config.api.companyServiceUrl}/api`,
@@ -251,7 +252,22 @@ api.interceptors.request.use(
 // Add a response interceptor to handle errors
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
+    const originalRequest = error.config as any;
+    if (error.response?.status === 401 && originalRequest && !originalRequest._retriedAfterRefresh
+      && localStorage.getItem('refreshToken')) {
+      // Access tokens are short-lived: renew once and replay the request
+      originalRequest._retriedAfterRefresh = true;
+      try {
+        const sentToken = (originalRequest.headers.Authorization as string | undefined)?.replace(/^Bearer /, '') ?? null;
+        const token = await authService.refresh(sentToken);
+        originalRequest.headers.Authorization = `Bearer ${token}`;
+        return api(originalRequest);
+      } catch {
+        // Fall through to the session-expired handling below
+      }
+    }
+
     if (error.response?.status === 401) {
       // Handle unauthorized access - session expired
       const currentPath = window.location.pathname;
@@ -260,6 +276,7 @@ api.interceptors.response.use(
       if (currentPath !== '/login' && currentPath !== '/register') {
         // Clear authentication data
         localStorage.removeItem('token');
+        localStorage.removeItem('refreshToken');
         localStorage.removeItem('user');
         
         // Dispatch custom event to notify AuthContext about session expiration
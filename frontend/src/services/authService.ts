@@ -2,16 +2,52 @@ import axios from 'axios';
 import { LoginCredentials, RegisterCredentials, AuthResponse } from '../types/auth';
 import config from '../config';
 
+// Shared by concurrent 401s so the single-use refresh token is only spent once
+let refreshInFlight: Promise<string> | null = null;
+
+const storeSession = (data: AuthResponse) => {
+  localStorage.setItem('token', data.token);
+  if (data.refreshToken) {
+    localStorage.setItem('refreshToken', data.refreshToken);
+  }
+  localStorage.setItem('user', JSON.stringify(data.user));
+};
+
 const authService = {
   async login(credentials: LoginCredentials): Promise<AuthResponse> {
     const response = await axios.post(`${config.api.baseUrl}/api/auth/login`, credentials);
     if (response.data.token) {
-      localStorage.setItem('token', response.data.token);
-      localStorage.setItem('user', JSON.stringify(response.data.user));
+      storeSession(response.data);
     }
     return response.data;
   },
 
+  // Tabs share one single-use refresh token: the Web Lock serialises their refreshes, and a tab
+  // whose access token was already replaced by another tab reuses the new one instead of spending
+  // the old refresh token a second time (which the server treats as theft and revokes everything)
+  refresh(staleToken: string | null = localStorage.getItem('token')): Promise<string> {
+    if (!refreshInFlight) {
+      const run = async () => {
+        const current = localStorage.getItem('token');
+        if (current && current !== staleToken) {
+          return current;
+        }
+        const refreshToken = localStorage.getItem('refreshToken');
+        if (!refreshToken) {
+          throw new Error('No refresh token');
+        }
+        const response = await axios.post(`${config.api.baseUrl}/api/auth/refresh`, { refreshToken });
+        storeSession(response.data);
+        return response.data.token as string;
+      };
+      refreshInFlight = ('locks' in navigator ? navigator.locks.request('auth-refresh', run) : run())
+        .finally(() => {
+          refreshInFlight = null;
+        });
+    }
+    return refreshInFlight;
+  },
+
   async register(credentials: RegisterCredentials): Promise<AuthResponse> {
     const response = await axios.post(`${config.api.baseUrl}/api/auth/register`, credentials);
     if (response.data.token) {
@@ -22,7 +58,18 @@ const authService = {
   },
 
   logout(): void {
+    const token = localStorage.getItem('token');
+    const refreshToken = localStorage.getItem('refreshToken');
+    if (token || refreshToken) {
+      // Best effort: the session is cleared locally whether or not the server is reachable
+      axios.post(
+        `${config.api.baseUrl}/api/auth/logout`,
+        { refreshToken },
+        { headers: token ? { Authorization: `Bearer ${token}` } : undefined }
+      ).catch(() => undefined);
+    }
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     localStorage.removeItem('user');
   },
 
@@ -0,0 +1,122 @@
+import config from '../config';
+import authService from './authService';
+
+// Window events dispatched for server-sent events
+export const UNREAD_NOTES_EVENT = 'unread-notes-count';
+export const REMINDERS_UPDATED_EVENT = 'reminders-updated';
+
+const MAX_RECONNECT_DELAY_MS = 30000;
+
+let controller: AbortController | null = null;
+let reconnectTimer: ReturnType<typeof setTimeout> | null = null;
+let reconnectDelayMs = 1000;
+
+const dispatch = (eventName: string, data: string) => {
+  if (eventName === 'unread-notes') {
+    try {
+      const payload = JSON.parse(data) as { count: number };
+      window.dispatchEvent(new CustomEvent(UNREAD_NOTES_EVENT, { detail: { count: payload.count } }));
+    } catch {
+      // Ignore malformed payloads
+    }
+  } else if (eventName === 'reminders') {
+    window.dispatchEvent(new Event(REMINDERS_UPDATED_EVENT));
+  }
+};
+
+const scheduleReconnect = () => {
+  if (!controller) {
+    return;
+  }
+  reconnectTimer = setTimeout(connect, reconnectDelayMs);
+  reconnectDelayMs = Math.min(reconnectDelayMs * 2, MAX_RECONNECT_DELAY_MS);
+};
+
+// EventSource cannot send the Authorization header, so the stream is read with fetch
+const connect = async () => {
+  reconnectTimer = null;
+  const current = controller;
+  if (!current) {
+    return;
+  }
+
+  try {
+    let token = localStorage.getItem('token');
+    let response = await fetch(`${config.api.companyServiceUrl}/api/events`, {
+      headers: { Accept: 'text/event-stream', ...(token ? { Authorization: `Bearer ${token}` } : {}) },
+      signal: current.signal,
+    });
+    if (response.status === 401 && localStorage.getItem('refreshToken')) {
+      token = await authService.refresh(token);
+      response = await fetch(`${config.api.companyServiceUrl}/api/events`, {
+        headers: { Accept: 'text/event-stream', Authorization: `Bearer ${token}` },
+        signal: current.signal,
+      });
+    }
+    if (!response.ok || !response.body) {
+      throw new Error(`Event stream failed with status ${response.status}`);
+    }
+    reconnectDelayMs = 1000;
+
+    const reader = response.body.getReader();
+    const decoder = new TextDecoder();
+    let buffer = '';
+    for (;;) {
+      const { done, value } = await reader.read();
+      if (done) {
+        break;
+      }
+      buffer += decoder.decode(value, { stream: true });
+      let separator;
+      while ((separator = buffer.indexOf('\n\n')) >= 0) {
+        const rawEvent = buffer.slice(0, separator);
+        buffer = buffer.slice(separator + 2);
+        let eventName = 'message';
+        const dataLines: string[] = [];
+        for (const line of rawEvent.split('\n')) {
+          if (line.startsWith('event:')) {
+            eventName = line.slice(6).trim();
+          } else if (line.startsWith('data:')) {
+            dataLines.push(line.slice(5).trimStart());
+          }
+        }
+        if (dataLines.length > 0) {
+          dispatch(eventName, dataLines.join('\n'));
+        }
+      }
+    }
+  } catch (error) {
+    if (current.signal.aborted) {
+      return;
+    }
+    console.warn('Event stream disconnected:', error);
+  }
+
+  if (controller === current) {
+    scheduleReconnect();
+  }
+};
+
+const eventStream = {
+  start() {
+    if (controller) {
+      return;
+    }
+    controller = new AbortController();
+    reconnectDelayMs = 1000;
+    connect();
+  },
+
+  stop() {
+    if (reconnectTimer) {
+      clearTimeout(reconnectTimer);
+      reconnectTimer = null;
+    }
+    if (controller) {
+      controller.abort();
+      controller = null;
+    }
+  },
+};
+
+export default eventStream;
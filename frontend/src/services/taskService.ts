@@ -1,5 +1,5 @@
 import api from './api';
-import { Task } from '../types/task';
+import { SalPreview, Task } from '../types/task';
 
 export interface PageResponse<T> {
     content: T[];
@@ -229,5 +229,60 @@ export const taskService = {
         const defaultFilename = `SAL_${year}_${String(month).padStart(2, '0')}${extension}`;
         const filename = filenameMatch ? filenameMatch[1] : defaultFilename;
         return { blob: response.data, contentType, filename };
+    },
+
+    // Generate SAL PDFs for every month in a date range and a set of projects, as one ZIP
+    async generateSalBatch(
+        startDate: string,
+        endDate: string,
+        projectIds?: number[],
+        userName?: string,
+        userAddress?: string,
+        userPhone?: string,
+        userEmailAddress?: string
+    ): Promise<{ blob: Blob; filename: string }> {
+        const params: any = { startDate, endDate };
+        if (projectIds && projectIds.length > 0) {
+            params.projectIds = projectIds.join(',');
+        }
+        if (userName) {
+            params.userName = userName;
+        }
+        if (userAddress) {
+            params.userAddress = userAddress;
+        }
+        if (userPhone) {
+            params.userPhone = userPhone;
+        }
+        if (userEmailAddress) {
+            params.userEmailAddress = userEmailAddress;
+        }
+        const response = await api.get('/tasks/sal/batch', { params, responseType: 'blob' });
+        const disposition = response.headers['content-disposition'] || '';
+        const filenameMatch = disposition.match(/filename="?([^";\s]+)"?/);
+        const filename = filenameMatch ? filenameMatch[1] : `SAL_${startDate}_${endDate}.zip`;
+        return { blob: response.data, filename };
+    },
+
+    // Preview how SAL tasks are split across contracts, without rendering the PDF
+    async previewSal(
+        year: number,
+        month: number,
+        projectId?: number,
+        taskIds?: number[],
+        contractId?: number
+    ): Promise<SalPreview> {
+        const params: any = { year, month };
+        if (projectId !== undefined) {
+            params.projectId = projectId;
+        }
+        if (taskIds && taskIds.length > 0) {
+            params.taskIds = taskIds.join(',');
+        }
+        if (contractId !== undefined) {
+            params.contractId = contractId;
+        }
+        const response = await api.get<SalPreview>('/tasks/sal/preview', { params });
+        return response.data;
     }
 }; 
\ No newline at end of file
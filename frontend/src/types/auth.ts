@@ -18,6 +18,7 @@ export interface RegisterCredentials extends LoginCredentials {
 
 export interface AuthResponse {
   token: string;
+  refreshToken: string;
   user: User;
 }
 
@@ -27,4 +27,22 @@ export interface Task {
     companyName?: string;
     userEmail?: string;
     contractUsages?: ContractUsage[];
-} 
\ No newline at end of file
+} 
+
+export interface SalContractAllocation {
+    contractId?: number;
+    contractCode?: string;
+    amountAvailable?: number;
+    tasks: Task[];
+    totalHours: number;
+    totalBillableAmount: number;
+    remainingAfterSal?: number;
+}
+
+export interface SalPreview {
+    year: number;
+    month: number;
+    allocations: SalContractAllocation[];
+    totalHours: number;
+    totalBillableAmount: number;
+}
@@ -82,12 +82,15 @@ echo company-service-db is healthy!
 
 
 REM --- Start Java backend services in background (no new windows) ---
+cd /d "%~dp0backend\common"
+echo Installing shared backend module...
+call ..\mvnw.cmd -q install
 cd /d "%~dp0backend\company-service"
 echo Starting company-service backend...
 start /b cmd /c "call ..\mvnw.cmd spring-boot:run"
 cd /d "%~dp0backend\auth-service"
 echo Starting auth-service backend...
-start /b cmd /c "call ..\mvnw.cmd spring-boot:run"
+start /b cmd /c "call ..\mvnw.cmd spring-boot:run -Dspring-boot.run.profiles=dev"
 
 REM --- Start React frontend in background (no new window) ---
 cd /d "%~dp0frontend"